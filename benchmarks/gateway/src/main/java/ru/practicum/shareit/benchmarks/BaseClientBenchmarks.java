@@ -0,0 +1,107 @@
+package ru.practicum.shareit.benchmarks;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.booking.dto.BookingStateRequest;
+import ru.practicum.shareit.client.ServerClientConfig;
+import ru.practicum.shareit.client.ServerClientProperties;
+import ru.practicum.shareit.item.ItemClient;
+import ru.practicum.shareit.item.dto.ItemDTO;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BaseClientBenchmarks {
+    private static final int PAGE_SIZE = 20;
+    private static final String ITEM_JSON = "{\"id\":42,\"name\":\"drill\",\"description\":\"cordless drill\"," +
+            "\"available\":true,\"requestId\":null,\"lastBooking\":null,\"nextBooking\":null,\"comments\":[]}";
+    private static final String BOOKINGS_JSON = IntStream.range(0, PAGE_SIZE)
+            .mapToObj(i -> "{\"id\":" + i + ",\"start\":\"2030-01-01T10:00:00\",\"end\":\"2030-01-02T10:00:00\"," +
+                    "\"status\":\"APPROVED\",\"booker\":{\"id\":7},\"item\":{\"id\":42,\"name\":\"drill\"}}")
+            .collect(Collectors.joining(",", "[", "]"));
+
+    private DisposableServer server;
+    private ConnectionProvider connectionProvider;
+    private ItemClient itemClient;
+    private BookingClient bookingClient;
+    private ItemDTO itemDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .get("/items/{id}", (request, response) -> response
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .sendString(Mono.just(ITEM_JSON)))
+                        .post("/items", (request, response) -> response
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .sendString(request.receive().aggregate().asString().map(body -> ITEM_JSON)))
+                        .get("/bookings", (request, response) -> response
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .header("X-Next-Cursor", "MjAzMC0wMS0wMVQxMDowMDowMHwxOQ")
+                                .sendString(Mono.just(BOOKINGS_JSON))))
+                .bindNow();
+
+        ServerClientConfig config = new ServerClientConfig();
+        ServerClientProperties properties = new ServerClientProperties();
+        connectionProvider = config.serverConnectionProvider(properties);
+        ClientHttpConnector connector = config.serverHttpConnector(connectionProvider, properties);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        String serverUrl = "http://127.0.0.1:" + server.port();
+        itemClient = new ItemClient(serverUrl, WebClient.builder(), connector, meterRegistry);
+        bookingClient = new BookingClient(serverUrl, WebClient.builder(), connector, meterRegistry);
+        itemDto = ItemDTO.builder().name("drill").description("cordless drill").available(true).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionProvider.disposeLater().block();
+        server.disposeNow();
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> getItemByID() {
+        return itemClient.getItemByID(1, 42).block();
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> addItem() {
+        return itemClient.addItem(1, itemDto).block();
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> getBookingsOfUserByState() {
+        return bookingClient.getBookingsOfUserByState(1, BookingStateRequest.ALL, 0, PAGE_SIZE).block();
+    }
+}
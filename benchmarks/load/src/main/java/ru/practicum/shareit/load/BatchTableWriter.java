@@ -0,0 +1,41 @@
+package ru.practicum.shareit.load;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+
+public class BatchTableWriter implements TableWriter {
+    private static final int BATCH_SIZE = 1000;
+
+    private final PreparedStatement statement;
+    private int rows;
+
+    public BatchTableWriter(Connection connection, String table, String... columns) throws SQLException {
+        statement = connection.prepareStatement("insert into " + table + " (" + String.join(", ", columns) +
+                ") values (" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")");
+    }
+
+    @Override
+    public void add(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            statement.setObject(i + 1, values[i]);
+        }
+        statement.addBatch();
+        if (++rows == BATCH_SIZE) {
+            statement.executeBatch();
+            rows = 0;
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (rows > 0) {
+                statement.executeBatch();
+            }
+        } finally {
+            statement.close();
+        }
+    }
+}
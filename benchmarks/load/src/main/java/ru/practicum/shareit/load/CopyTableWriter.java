@@ -0,0 +1,65 @@
+package ru.practicum.shareit.load;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class CopyTableWriter implements TableWriter {
+    private static final int ROWS_PER_COPY = 10_000;
+
+    private final CopyManager copyManager;
+    private final String sql;
+    private final StringBuilder buffer = new StringBuilder();
+    private int rows;
+
+    public CopyTableWriter(Connection connection, String table, String... columns) throws SQLException {
+        copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+    }
+
+    @Override
+    public void add(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            appendValue(values[i]);
+        }
+        buffer.append('\n');
+        if (++rows == ROWS_PER_COPY) {
+            flush();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (rows > 0) {
+            flush();
+        }
+    }
+
+    private void appendValue(Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof String) {
+            buffer.append('"').append(((String) value).replace("\"", "\"\"")).append('"');
+        } else {
+            buffer.append(value);
+        }
+    }
+
+    private void flush() throws SQLException {
+        try {
+            copyManager.copyIn(sql, new StringReader(buffer.toString()));
+        } catch (IOException e) {
+            throw new SQLException("Can't copy rows with " + sql, e);
+        }
+        buffer.setLength(0);
+        rows = 0;
+    }
+}
@@ -0,0 +1,75 @@
+package ru.practicum.shareit.load;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Random;
+
+@Getter
+@Builder
+public class DatasetConfig {
+    private final int users;
+    private final int requests;
+    private final int items;
+    private final int bookings;
+    private final int comments;
+    private final double ownerSkew;
+    private final double itemSkew;
+    private final double bookerSkew;
+    private final double unavailableShare;
+    private final double answeredRequestShare;
+    private final int daysBack;
+    private final int daysAhead;
+    private final double bookingMedianHours;
+    private final long seed;
+
+    public static DatasetConfig of(ToolOptions options) {
+        return DatasetConfig.builder()
+                .users(options.getInt("users", 10_000))
+                .requests(options.getInt("requests", 5_000))
+                .items(options.getInt("items", 50_000))
+                .bookings(options.getInt("bookings", 500_000))
+                .comments(options.getInt("comments", 100_000))
+                .ownerSkew(options.getDouble("owner-skew", 1.2))
+                .itemSkew(options.getDouble("item-skew", 1.1))
+                .bookerSkew(options.getDouble("booker-skew", 0.8))
+                .unavailableShare(options.getDouble("unavailable-share", 0.1))
+                .answeredRequestShare(options.getDouble("answered-request-share", 0.1))
+                .daysBack(options.getInt("days-back", 365))
+                .daysAhead(options.getInt("days-ahead", 90))
+                .bookingMedianHours(options.getDouble("booking-median-hours", 24))
+                .seed(options.getLong("seed", 42))
+                .build();
+    }
+
+    public ZipfSampler ownerSampler() {
+        return new ZipfSampler(users, ownerSkew, seed + 1);
+    }
+
+    public ZipfSampler itemSampler() {
+        return new ZipfSampler(items, itemSkew, seed + 2);
+    }
+
+    public ZipfSampler bookerSampler() {
+        return new ZipfSampler(users, bookerSkew, seed + 3);
+    }
+
+    public int[] itemOwnerIDs() {
+        ZipfSampler ownerSampler = ownerSampler();
+        Random random = new Random(seed + 4);
+        int[] owners = new int[items];
+        for (int i = 0; i < items; i++) {
+            owners[i] = ownerSampler.sample(random) + 1;
+        }
+        return owners;
+    }
+
+    public boolean[] itemAvailability() {
+        Random random = new Random(seed + 5);
+        boolean[] available = new boolean[items];
+        for (int i = 0; i < items; i++) {
+            available[i] = random.nextDouble() >= unavailableShare;
+        }
+        return available;
+    }
+}
@@ -0,0 +1,274 @@
+package ru.practicum.shareit.load;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+@Slf4j
+@RequiredArgsConstructor
+public class DatasetGenerator {
+    public static final List<String> ITEM_NAMES = List.of("drill", "saw", "hammer", "ladder", "tent", "bicycle",
+            "kayak", "projector", "camera", "tripod", "sewing machine", "lawn mower", "snowboard", "guitar");
+    private static final List<String> ITEM_KINDS = List.of("cordless", "compact", "professional", "old but working",
+            "brand new", "heavy duty");
+    private static final List<String> TABLES = List.of("users", "requests", "items", "comments", "bookings");
+
+    private final DatasetConfig config;
+
+    public void generate(Connection connection) throws SQLException {
+        boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema.sql"));
+        if (postgres) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema-postgresql.sql"));
+        }
+        checkEmpty(connection);
+
+        connection.setAutoCommit(false);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        writeUsers(connection, postgres);
+        writeRequests(connection, postgres, now);
+        int[] owners = config.itemOwnerIDs();
+        writeItems(connection, postgres, owners);
+        GeneratedBookings bookings = writeBookings(connection, postgres, owners, now);
+        writeComments(connection, postgres, bookings, now);
+        writeSummaries(connection, postgres, bookings);
+        restartSequences(connection, postgres, bookings);
+        connection.setAutoCommit(true);
+        if (postgres) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+        }
+    }
+
+    private void checkEmpty(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("select count(*) from users")) {
+            result.next();
+            if (result.getLong(1) > 0) {
+                throw new IllegalStateException("Database already contains users, generate into an empty database");
+            }
+        }
+    }
+
+    private void writeUsers(Connection connection, boolean postgres) throws SQLException {
+        try (TableWriter writer = TableWriter.open(connection, postgres, "users", "id", "name", "email")) {
+            for (int id = 1; id <= config.getUsers(); id++) {
+                writer.add(id, "User " + id, "user" + id + "@load.shareit.dev");
+            }
+        }
+        commit(connection, "users", config.getUsers());
+    }
+
+    private void writeRequests(Connection connection, boolean postgres, LocalDateTime now) throws SQLException {
+        ZipfSampler requestors = config.bookerSampler();
+        Random random = new Random(config.getSeed() + 10);
+        int minutesBack = config.getDaysBack() * 24 * 60;
+        try (TableWriter writer = TableWriter.open(connection, postgres, "requests",
+                "id", "description", "requestor_id", "created")) {
+            for (int id = 1; id <= config.getRequests(); id++) {
+                writer.add(id, "Looking for a " + ITEM_NAMES.get(random.nextInt(ITEM_NAMES.size())),
+                        requestors.sample(random) + 1, now.minusMinutes(random.nextInt(minutesBack)));
+            }
+        }
+        commit(connection, "requests", config.getRequests());
+    }
+
+    private void writeItems(Connection connection, boolean postgres, int[] owners) throws SQLException {
+        boolean[] available = config.itemAvailability();
+        Random random = new Random(config.getSeed() + 11);
+        try (TableWriter writer = TableWriter.open(connection, postgres, "items",
+                "id", "name", "description", "is_available", "owner_id", "request_id")) {
+            for (int i = 0; i < config.getItems(); i++) {
+                String name = ITEM_NAMES.get(random.nextInt(ITEM_NAMES.size()));
+                Integer requestID = config.getRequests() > 0 && random.nextDouble() < config.getAnsweredRequestShare()
+                        ? random.nextInt(config.getRequests()) + 1 : null;
+                writer.add(i + 1, name, ITEM_KINDS.get(random.nextInt(ITEM_KINDS.size())) + " " + name,
+                        available[i], owners[i], requestID);
+            }
+        }
+        commit(connection, "items", config.getItems());
+    }
+
+    private GeneratedBookings writeBookings(Connection connection, boolean postgres, int[] owners, LocalDateTime now)
+            throws SQLException {
+        Random random = new Random(config.getSeed() + 12);
+        ZipfSampler itemSampler = config.itemSampler();
+        ZipfSampler bookerSampler = config.bookerSampler();
+        int[] bookingsOfItems = new int[config.getItems()];
+        for (int i = 0; i < config.getBookings(); i++) {
+            bookingsOfItems[itemSampler.sample(random)]++;
+        }
+
+        GeneratedBookings bookings = new GeneratedBookings(config.getItems());
+        LocalDateTime windowStart = now.minusDays(config.getDaysBack());
+        long windowMinutes = (config.getDaysBack() + config.getDaysAhead()) * 24L * 60;
+        double medianMinutes = config.getBookingMedianHours() * 60;
+        int bookingID = 0;
+        try (TableWriter writer = TableWriter.open(connection, postgres, "bookings",
+                "id", "start_date", "end_date", "item_id", "booker_id", "item_owner_id", "status")) {
+            for (int i = 0; i < config.getItems(); i++) {
+                int count = bookingsOfItems[i];
+                if (count == 0) {
+                    continue;
+                }
+                long slotMinutes = Math.max(windowMinutes / count, 2);
+                for (int k = 0; k < count; k++) {
+                    long duration = (long) (medianMinutes * Math.exp(0.7 * random.nextGaussian()));
+                    duration = Math.max(1, Math.min(duration, slotMinutes * 9 / 10));
+                    LocalDateTime start = windowStart.plusMinutes(k * slotMinutes
+                            + (long) (random.nextDouble() * (slotMinutes - duration)));
+                    LocalDateTime end = start.plusMinutes(duration);
+                    int bookerID = bookerSampler.sample(random) + 1;
+                    if (bookerID == owners[i]) {
+                        bookerID = bookerID % config.getUsers() + 1;
+                    }
+                    String status = bookingStatus(start, end, now, random);
+                    writer.add(++bookingID, start, end, i + 1, bookerID, owners[i], status);
+                    bookings.add(i, bookingID, bookerID, start, end, status, now);
+                }
+            }
+        }
+        commit(connection, "bookings", bookingID);
+        return bookings;
+    }
+
+    private String bookingStatus(LocalDateTime start, LocalDateTime end, LocalDateTime now, Random random) {
+        double chance = random.nextDouble();
+        if (end.isBefore(now)) {
+            return chance < 0.85 ? "APPROVED" : chance < 0.95 ? "REJECTED" : "CANCELED";
+        }
+        if (start.isAfter(now)) {
+            return chance < 0.6 ? "APPROVED" : chance < 0.9 ? "WAITING" : "REJECTED";
+        }
+        return "APPROVED";
+    }
+
+    private void writeComments(Connection connection, boolean postgres, GeneratedBookings bookings, LocalDateTime now)
+            throws SQLException {
+        if (bookings.pastCount == 0) {
+            return;
+        }
+        Random random = new Random(config.getSeed() + 13);
+        try (TableWriter writer = TableWriter.open(connection, postgres, "comments",
+                "id", "text", "item_id", "author_id", "created")) {
+            for (int id = 1; id <= config.getComments(); id++) {
+                int past = random.nextInt(bookings.pastCount);
+                int item = bookings.pastItems[past];
+                LocalDateTime created = bookings.pastEnds[past].plusMinutes(random.nextInt(7 * 24 * 60));
+                writer.add(id, "Thanks, it was " + ITEM_KINDS.get(random.nextInt(ITEM_KINDS.size())) + " indeed",
+                        item + 1, bookings.pastBookers[past], created.isAfter(now) ? now : created);
+                bookings.commentCounts[item]++;
+            }
+        }
+        commit(connection, "comments", config.getComments());
+    }
+
+    private void writeSummaries(Connection connection, boolean postgres, GeneratedBookings bookings)
+            throws SQLException {
+        try (TableWriter writer = TableWriter.open(connection, postgres, "item_summaries",
+                "item_id", "last_booking_id", "last_booker_id", "last_start",
+                "next_booking_id", "next_booker_id", "next_start", "comment_count", "bookings_loaded")) {
+            for (int i = 0; i < config.getItems(); i++) {
+                boolean hasLast = bookings.lastBookingIDs[i] != 0;
+                boolean hasNext = bookings.nextBookingIDs[i] != 0;
+                writer.add(i + 1,
+                        hasLast ? bookings.lastBookingIDs[i] : null,
+                        hasLast ? bookings.lastBookerIDs[i] : null,
+                        bookings.lastStarts[i],
+                        hasNext ? bookings.nextBookingIDs[i] : null,
+                        hasNext ? bookings.nextBookerIDs[i] : null,
+                        bookings.nextStarts[i],
+                        bookings.commentCounts[i],
+                        true);
+            }
+        }
+        commit(connection, "item_summaries", config.getItems());
+    }
+
+    private void restartSequences(Connection connection, boolean postgres, GeneratedBookings bookings)
+            throws SQLException {
+        long[] lastIDs = {config.getUsers(), config.getRequests(), config.getItems(),
+                bookings.pastCount == 0 ? 0 : config.getComments(), bookings.count};
+        try (Statement statement = connection.createStatement()) {
+            for (int i = 0; i < TABLES.size(); i++) {
+                String sequence = TABLES.get(i) + "_seq";
+                if (postgres) {
+                    statement.execute("SELECT setval('" + sequence + "', " + (lastIDs[i] + 1) + ", false)");
+                } else {
+                    statement.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (lastIDs[i] + 1));
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    private void commit(Connection connection, String table, int rows) throws SQLException {
+        connection.commit();
+        log.info("Generated {} rows in {}", rows, table);
+    }
+
+    private static class GeneratedBookings {
+        private int count;
+        private final int[] lastBookingIDs;
+        private final int[] lastBookerIDs;
+        private final LocalDateTime[] lastStarts;
+        private final int[] nextBookingIDs;
+        private final int[] nextBookerIDs;
+        private final LocalDateTime[] nextStarts;
+        private final int[] commentCounts;
+        private int pastCount;
+        private int[] pastItems = new int[1024];
+        private int[] pastBookers = new int[1024];
+        private LocalDateTime[] pastEnds = new LocalDateTime[1024];
+
+        GeneratedBookings(int items) {
+            lastBookingIDs = new int[items];
+            lastBookerIDs = new int[items];
+            lastStarts = new LocalDateTime[items];
+            nextBookingIDs = new int[items];
+            nextBookerIDs = new int[items];
+            nextStarts = new LocalDateTime[items];
+            commentCounts = new int[items];
+        }
+
+        void add(int item, int bookingID, int bookerID, LocalDateTime start, LocalDateTime end, String status,
+                 LocalDateTime now) {
+            count++;
+            if (!"APPROVED".equals(status)) {
+                return;
+            }
+            if (start.isBefore(now)) {
+                lastBookingIDs[item] = bookingID;
+                lastBookerIDs[item] = bookerID;
+                lastStarts[item] = start;
+            } else if (start.isAfter(now) && nextBookingIDs[item] == 0) {
+                nextBookingIDs[item] = bookingID;
+                nextBookerIDs[item] = bookerID;
+                nextStarts[item] = start;
+            }
+            if (end.isBefore(now)) {
+                if (pastCount == pastItems.length) {
+                    pastItems = Arrays.copyOf(pastItems, pastCount * 2);
+                    pastBookers = Arrays.copyOf(pastBookers, pastCount * 2);
+                    pastEnds = Arrays.copyOf(pastEnds, pastCount * 2);
+                }
+                pastItems[pastCount] = item;
+                pastBookers[pastCount] = bookerID;
+                pastEnds[pastCount] = end;
+                pastCount++;
+            }
+        }
+    }
+}
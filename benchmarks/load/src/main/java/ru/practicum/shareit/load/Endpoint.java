@@ -0,0 +1,21 @@
+package ru.practicum.shareit.load;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum Endpoint {
+    OWNER_ITEMS("GET /items", 15),
+    ITEM("GET /items/{id}", 20),
+    SEARCH("GET /items/search", 15),
+    BOOKER_BOOKINGS("GET /bookings", 15),
+    OWNER_BOOKINGS("GET /bookings/owner", 10),
+    AVAILABILITY("GET /bookings/items/{id}/availability", 5),
+    REQUESTS("GET /requests/all", 10),
+    ADD_BOOKING("POST /bookings", 10),
+    APPROVE_BOOKING("PATCH /bookings/{id}", 0);
+
+    private final String title;
+    private final int defaultWeight;
+}
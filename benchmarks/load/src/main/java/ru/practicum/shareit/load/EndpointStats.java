@@ -0,0 +1,18 @@
+package ru.practicum.shareit.load;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class EndpointStats {
+    private final String endpoint;
+    private final long requests;
+    private final long errors;
+    private final double throughput;
+    private final double p50;
+    private final double p90;
+    private final double p99;
+    private final double p999;
+    private final double max;
+}
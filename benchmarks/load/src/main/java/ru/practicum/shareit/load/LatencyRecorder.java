@@ -0,0 +1,57 @@
+package ru.practicum.shareit.load;
+
+import java.util.Arrays;
+
+public class LatencyRecorder {
+    private long[] latencies = new long[4096];
+    private int count;
+    private long errors;
+
+    public void record(long latencyNanos) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+    }
+
+    public void error() {
+        errors++;
+    }
+
+    public void merge(LatencyRecorder other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    public EndpointStats toStats(String endpoint, double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return EndpointStats.builder()
+                .endpoint(endpoint)
+                .requests(count)
+                .errors(errors)
+                .throughput(count / seconds)
+                .p50(percentile(sorted, 0.5))
+                .p90(percentile(sorted, 0.9))
+                .p99(percentile(sorted, 0.99))
+                .p999(percentile(sorted, 0.999))
+                .max(count == 0 ? 0 : toMillis(sorted[count - 1]))
+                .build();
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return toMillis(sorted[Math.max(index, 0)]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
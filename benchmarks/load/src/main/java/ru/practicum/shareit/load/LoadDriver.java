@@ -0,0 +1,258 @@
+package ru.practicum.shareit.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class LoadDriver {
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+    private static final List<String> STATES = List.of("ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED");
+    private static final int PAGE_SIZE = 20;
+
+    private final DatasetConfig dataset;
+    private final String gatewayUrl;
+    private final int threads;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Endpoint[] endpoints = Endpoint.values();
+    private final int[] cumulativeWeights = new int[endpoints.length];
+    private final int[] itemOwners;
+    private final boolean[] itemAvailability;
+    private final ZipfSampler itemSampler;
+    private final ZipfSampler bookerSampler;
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final LocalDateTime firstBookingStart = LocalDateTime.now().plusYears(2).truncatedTo(ChronoUnit.HOURS);
+    private final AtomicLong bookingSlots = new AtomicLong();
+
+    public LoadDriver(DatasetConfig dataset, ToolOptions options) {
+        this.dataset = dataset;
+        this.gatewayUrl = options.getString("gateway", "http://localhost:8080");
+        this.threads = options.getInt("threads", 32);
+        this.warmup = Duration.ofSeconds(options.getLong("warmup", 10));
+        this.duration = Duration.ofSeconds(options.getLong("duration", 60));
+        Map<Endpoint, Integer> weights = parseMix(options.getString("mix", ""));
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += weights.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Endpoint mix has no weights");
+        }
+        this.itemOwners = dataset.itemOwnerIDs();
+        this.itemAvailability = dataset.itemAvailability();
+        this.itemSampler = dataset.itemSampler();
+        this.bookerSampler = dataset.bookerSampler();
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+    }
+
+    public List<EndpointStats> run() throws Exception {
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Map<Endpoint, LatencyRecorder>>> results = new ArrayList<>();
+        log.info("Driving {} with {} clients for {}s after {}s of warmup", gatewayUrl, threads,
+                duration.getSeconds(), warmup.getSeconds());
+        for (int i = 0; i < threads; i++) {
+            Random random = new Random(dataset.getSeed() + 100 + i);
+            results.add(executor.submit(() -> drive(random, warmupEnd, end)));
+        }
+        Map<Endpoint, LatencyRecorder> merged = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : endpoints) {
+            merged.put(endpoint, new LatencyRecorder());
+        }
+        try {
+            for (Future<Map<Endpoint, LatencyRecorder>> result : results) {
+                result.get().forEach((endpoint, recorder) -> merged.get(endpoint).merge(recorder));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double seconds = duration.toMillis() / 1000.0;
+        LatencyRecorder total = new LatencyRecorder();
+        List<EndpointStats> stats = new ArrayList<>();
+        for (Endpoint endpoint : endpoints) {
+            LatencyRecorder recorder = merged.get(endpoint);
+            total.merge(recorder);
+            stats.add(recorder.toStats(endpoint.getTitle(), seconds));
+        }
+        stats.add(total.toStats("TOTAL", seconds));
+        return stats;
+    }
+
+    private Map<Endpoint, LatencyRecorder> drive(Random random, long warmupEnd, long end) {
+        Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : endpoints) {
+            recorders.put(endpoint, new LatencyRecorder());
+        }
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            boolean measured = now >= warmupEnd;
+            Endpoint endpoint = nextEndpoint(random);
+            if (endpoint == Endpoint.ADD_BOOKING) {
+                addAndApproveBooking(random, recorders, measured);
+            } else {
+                send(endpoint, request(endpoint, random), recorders, measured);
+            }
+        }
+        return recorders;
+    }
+
+    private Endpoint nextEndpoint(Random random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < endpoints.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        throw new IllegalStateException("Weight " + value + " out of the endpoint mix");
+    }
+
+    private HttpRequest request(Endpoint endpoint, Random random) {
+        int item = itemSampler.sample(random);
+        int booker = bookerSampler.sample(random) + 1;
+        int owner = itemOwners[random.nextInt(itemOwners.length)];
+        String state = random.nextBoolean() ? "ALL" : STATES.get(random.nextInt(STATES.size()));
+        switch (endpoint) {
+            case OWNER_ITEMS:
+                return get("/items?from=0&size=" + PAGE_SIZE, owner);
+            case ITEM:
+                return get("/items/" + (item + 1), booker);
+            case SEARCH:
+                String text = DatasetGenerator.ITEM_NAMES.get(random.nextInt(DatasetGenerator.ITEM_NAMES.size()));
+                return get("/items/search?from=0&size=" + PAGE_SIZE + "&text=" + encode(text), booker);
+            case BOOKER_BOOKINGS:
+                return get("/bookings?state=" + state + "&from=0&size=" + PAGE_SIZE, booker);
+            case OWNER_BOOKINGS:
+                return get("/bookings/owner?state=" + state + "&from=0&size=" + PAGE_SIZE, owner);
+            case AVAILABILITY:
+                LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+                return get("/bookings/items/" + (item + 1) + "/availability?start=" + start +
+                        "&end=" + start.plusWeeks(2), booker);
+            case REQUESTS:
+                return get("/requests/all?from=0&size=" + PAGE_SIZE, booker);
+            default:
+                throw new IllegalArgumentException("Endpoint " + endpoint + " has no standalone request");
+        }
+    }
+
+    private void addAndApproveBooking(Random random, Map<Endpoint, LatencyRecorder> recorders, boolean measured) {
+        int item = itemSampler.sample(random);
+        while (!itemAvailability[item]) {
+            item = itemSampler.sample(random);
+        }
+        int booker = bookerSampler.sample(random) + 1;
+        if (booker == itemOwners[item]) {
+            booker = booker % dataset.getUsers() + 1;
+        }
+        LocalDateTime start = firstBookingStart.plusHours(bookingSlots.getAndIncrement());
+        String body = "{\"itemId\":" + (item + 1) + ",\"start\":\"" + start + "\",\"end\":\"" + start.plusHours(1) + "\"}";
+        HttpRequest request = builder("/bookings", booker)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        String response = send(Endpoint.ADD_BOOKING, request, recorders, measured);
+        if (response == null) {
+            return;
+        }
+        int bookingID;
+        try {
+            JsonNode booking = mapper.readTree(response);
+            bookingID = booking.path("id").asInt();
+        } catch (IOException e) {
+            log.debug("Can't read created booking from {}", response, e);
+            return;
+        }
+        HttpRequest approval = builder("/bookings/" + bookingID + "?approved=true", itemOwners[item])
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build();
+        send(Endpoint.APPROVE_BOOKING, approval, recorders, measured);
+    }
+
+    private String send(Endpoint endpoint, HttpRequest request, Map<Endpoint, LatencyRecorder> recorders,
+                        boolean measured) {
+        LatencyRecorder recorder = recorders.get(endpoint);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            long latency = System.nanoTime() - start;
+            if (response.statusCode() >= 400) {
+                if (measured) {
+                    recorder.error();
+                }
+                return null;
+            }
+            if (measured) {
+                recorder.record(latency);
+            }
+            return response.body();
+        } catch (IOException e) {
+            if (measured) {
+                recorder.error();
+            }
+            log.debug("Request {} failed", request.uri(), e);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load driver interrupted", e);
+        }
+    }
+
+    private HttpRequest get(String path, int userID) {
+        return builder(path, userID).GET().build();
+    }
+
+    private HttpRequest.Builder builder(String path, int userID) {
+        return HttpRequest.newBuilder(URI.create(gatewayUrl + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("Accept", "application/json")
+                .header(USER_HEADER, String.valueOf(userID));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            weights.put(endpoint, endpoint.getDefaultWeight());
+        }
+        if (mix.isBlank()) {
+            return weights;
+        }
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entry " + entry + " must look like ENDPOINT:weight");
+            }
+            weights.put(Endpoint.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
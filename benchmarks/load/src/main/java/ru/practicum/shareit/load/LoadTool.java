@@ -0,0 +1,59 @@
+package ru.practicum.shareit.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.List;
+
+public class LoadTool {
+    private static final String USAGE = "Usage: java -jar load.jar generate|drive [--name=value ...]";
+    private static final String ROW_FORMAT = "%-40s %9s %7s %9s %9s %9s %9s %9s %9s%n";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        ToolOptions options = new ToolOptions(args, 1);
+        DatasetConfig dataset = DatasetConfig.of(options);
+        switch (args[0]) {
+            case "generate":
+                generate(dataset, options);
+                break;
+            case "drive":
+                drive(dataset, options);
+                break;
+            default:
+                System.err.println(USAGE);
+                System.exit(1);
+        }
+    }
+
+    private static void generate(DatasetConfig dataset, ToolOptions options) throws Exception {
+        String url = options.getString("url", "jdbc:h2:file:./target/shareit-load");
+        try (Connection connection = DriverManager.getConnection(url, options.getString("user", "test"),
+                options.getString("password", "test"))) {
+            new DatasetGenerator(dataset).generate(connection);
+        }
+    }
+
+    private static void drive(DatasetConfig dataset, ToolOptions options) throws Exception {
+        List<EndpointStats> stats = new LoadDriver(dataset, options).run();
+        System.out.printf(ROW_FORMAT, "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms",
+                "p99.9 ms", "max ms");
+        for (EndpointStats endpoint : stats) {
+            System.out.printf(ROW_FORMAT, endpoint.getEndpoint(), endpoint.getRequests(), endpoint.getErrors(),
+                    format(endpoint.getThroughput()), format(endpoint.getP50()), format(endpoint.getP90()),
+                    format(endpoint.getP99()), format(endpoint.getP999()), format(endpoint.getMax()));
+        }
+        File report = new File(options.getString("report", "load-report.json"));
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(report, stats);
+        System.out.println("Report written to " + report.getAbsolutePath());
+    }
+
+    private static String format(double value) {
+        return String.format("%.2f", value);
+    }
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.load;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public interface TableWriter extends AutoCloseable {
+    void add(Object... values) throws SQLException;
+
+    @Override
+    void close() throws SQLException;
+
+    static TableWriter open(Connection connection, boolean copy, String table, String... columns) throws SQLException {
+        if (copy) {
+            return new CopyTableWriter(connection, table, columns);
+        }
+        return new BatchTableWriter(connection, table, columns);
+    }
+}
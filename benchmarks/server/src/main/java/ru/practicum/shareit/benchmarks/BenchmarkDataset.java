@@ -0,0 +1,171 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dto.BookingStatus;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemSearchIndex;
+import ru.practicum.shareit.item.service.ItemSummaryUpdater;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class BenchmarkDataset {
+    public static final int USERS = 2000;
+    public static final int OWNERS = 400;
+    public static final int ITEMS_PER_OWNER = 20;
+    public static final int REQUESTS = 1000;
+    public static final int BOOKINGS_PER_ITEM = 8;
+    public static final int COMMENTS_PER_ITEM = 2;
+    public static final List<String> ITEM_NAMES = List.of("drill", "saw", "hammer", "ladder", "tent", "bicycle",
+            "kayak", "projector", "camera", "tripod", "sewing machine", "lawn mower");
+
+    private static final int OWNERS_PER_TRANSACTION = 50;
+    private static final int SUMMARIES_PER_TRANSACTION = 1000;
+    private static final int ANSWERED_REQUEST_EVERY = 5;
+
+    final List<Integer> ownerIDs = new ArrayList<>();
+    final List<Integer> bookerIDs = new ArrayList<>();
+    final List<Integer> itemIDs = new ArrayList<>();
+    final List<Integer> itemOwnerIDs = new ArrayList<>();
+    final List<Integer> availableItemIDs = new ArrayList<>();
+    final List<Integer> bookingIDs = new ArrayList<>();
+    final List<Integer> bookingBookerIDs = new ArrayList<>();
+
+    public static BenchmarkDataset seed(ApplicationContext context) {
+        BenchmarkDataset dataset = new BenchmarkDataset();
+        dataset.fill(context);
+        return dataset;
+    }
+
+    private void fill(ApplicationContext context) {
+        TransactionTemplate transactions = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ItemRequestRepository requestRepository = context.getBean(ItemRequestRepository.class);
+        ItemRepository itemRepository = context.getBean(ItemRepository.class);
+        BookingRepository bookingRepository = context.getBean(BookingRepository.class);
+        CommentRepository commentRepository = context.getBean(CommentRepository.class);
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<User> users = transactions.execute(status -> userRepository.saveAll(IntStream.range(0, USERS)
+                .mapToObj(i -> User.builder().name("user " + i).email("user" + i + "@shareit.dev").build())
+                .collect(Collectors.toList())));
+        List<User> owners = users.subList(0, OWNERS);
+        List<User> bookers = users.subList(OWNERS, USERS);
+        owners.forEach(owner -> ownerIDs.add(owner.getId()));
+        bookers.forEach(booker -> bookerIDs.add(booker.getId()));
+
+        List<ItemRequest> requests = transactions.execute(status -> requestRepository.saveAll(
+                IntStream.range(0, REQUESTS)
+                        .mapToObj(i -> ItemRequest.builder()
+                                .description("need a " + ITEM_NAMES.get(i % ITEM_NAMES.size()))
+                                .requestor(bookers.get(random.nextInt(bookers.size())))
+                                .created(now.minusDays(random.nextInt(365)))
+                                .build())
+                        .collect(Collectors.toList())));
+
+        for (int from = 0; from < OWNERS; from += OWNERS_PER_TRANSACTION) {
+            List<User> ownersChunk = owners.subList(from, Math.min(from + OWNERS_PER_TRANSACTION, OWNERS));
+            transactions.executeWithoutResult(status -> {
+                List<Item> items = itemRepository.saveAll(createItems(ownersChunk, requests, random));
+                List<Booking> bookings = bookingRepository.saveAll(createBookings(items, bookers, now, random));
+                commentRepository.saveAll(createComments(bookings, now));
+                for (Item item : items) {
+                    itemIDs.add(item.getId());
+                    itemOwnerIDs.add(item.getOwner().getId());
+                    if (item.getAvailable()) {
+                        availableItemIDs.add(item.getId());
+                    }
+                }
+                for (Booking booking : bookings) {
+                    bookingIDs.add(booking.getId());
+                    bookingBookerIDs.add(booking.getBooker().getId());
+                }
+            });
+        }
+
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(context.getBean(DataSource.class));
+        ItemSummaryUpdater summaryUpdater = context.getBean(ItemSummaryUpdater.class);
+        for (int from = 0; from < itemIDs.size(); from += SUMMARIES_PER_TRANSACTION) {
+            List<Integer> chunk = itemIDs.subList(from, Math.min(from + SUMMARIES_PER_TRANSACTION, itemIDs.size()));
+            transactions.executeWithoutResult(status -> summaryUpdater.bookingsApproved(chunk));
+        }
+        context.getBean(ItemSearchIndex.class).build();
+    }
+
+    private List<Item> createItems(List<User> owners, List<ItemRequest> requests, Random random) {
+        List<Item> items = new ArrayList<>();
+        for (User owner : owners) {
+            for (int i = 0; i < ITEMS_PER_OWNER; i++) {
+                String name = ITEM_NAMES.get(random.nextInt(ITEM_NAMES.size()));
+                items.add(Item.builder()
+                        .name(name)
+                        .description(name + " in good condition, model " + random.nextInt(1000))
+                        .available(random.nextInt(10) != 0)
+                        .owner(owner)
+                        .request(i % ANSWERED_REQUEST_EVERY == 0 ? requests.get(random.nextInt(requests.size())) : null)
+                        .build());
+            }
+        }
+        return items;
+    }
+
+    private List<Booking> createBookings(List<Item> items, List<User> bookers, LocalDateTime now, Random random) {
+        List<Booking> bookings = new ArrayList<>();
+        for (Item item : items) {
+            LocalDateTime start = now.minusWeeks(BOOKINGS_PER_ITEM / 2).plusHours(random.nextInt(24));
+            for (int i = 0; i < BOOKINGS_PER_ITEM; i++) {
+                bookings.add(Booking.builder()
+                        .start(start)
+                        .end(start.plusDays(1 + random.nextInt(5)))
+                        .item(item)
+                        .booker(bookers.get(random.nextInt(bookers.size())))
+                        .status(bookingStatus(i))
+                        .build());
+                start = start.plusWeeks(1);
+            }
+        }
+        return bookings;
+    }
+
+    private List<Comment> createComments(List<Booking> bookings, LocalDateTime now) {
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < bookings.size(); i += BOOKINGS_PER_ITEM) {
+            for (int j = 0; j < COMMENTS_PER_ITEM; j++) {
+                Booking booking = bookings.get(i + j);
+                comments.add(Comment.builder()
+                        .text("thanks, the " + booking.getItem().getName() + " worked fine")
+                        .author(booking.getBooker())
+                        .item(booking.getItem())
+                        .created(booking.getEnd().isBefore(now) ? booking.getEnd() : now)
+                        .build());
+            }
+        }
+        return comments;
+    }
+
+    private BookingStatus bookingStatus(int index) {
+        if (index == BOOKINGS_PER_ITEM - 1) {
+            return BookingStatus.WAITING;
+        }
+        return index % 4 == 3 ? BookingStatus.REJECTED : BookingStatus.APPROVED;
+    }
+}
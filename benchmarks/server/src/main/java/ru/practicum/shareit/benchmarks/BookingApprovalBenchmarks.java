@@ -0,0 +1,93 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BulkBookingResult;
+import ru.practicum.shareit.booking.dto.IncomeBookingDTO;
+import ru.practicum.shareit.booking.dto.OutcomeBookingDTO;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, batchSize = BookingApprovalBenchmarks.APPROVALS_PER_ITERATION)
+@Measurement(iterations = 5, batchSize = BookingApprovalBenchmarks.APPROVALS_PER_ITERATION)
+@Threads(8)
+@Fork(1)
+public class BookingApprovalBenchmarks {
+    static final int APPROVALS_PER_ITERATION = 200;
+
+    private final Deque<Integer> waitingBookingIDs = new ArrayDeque<>();
+    private int threadNumber;
+    private int itemID;
+    private int ownerID;
+    private int bookerID;
+
+    @Setup(Level.Trial)
+    public void pickItem(ServerBenchmarkState state, ApprovalTarget target) {
+        BenchmarkDataset dataset = state.dataset;
+        threadNumber = target.threads.getAndIncrement();
+        itemID = dataset.availableItemIDs.get(target.sharedItem() ? 0 : threadNumber);
+        ownerID = dataset.itemOwnerIDs.get(dataset.itemIDs.indexOf(itemID));
+        bookerID = dataset.bookerIDs.get(threadNumber % dataset.bookerIDs.size());
+    }
+
+    @Setup(Level.Iteration)
+    public void addWaitingBookings(ServerBenchmarkState state, ApprovalTarget target) {
+        List<IncomeBookingDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < APPROVALS_PER_ITERATION; i++) {
+            LocalDateTime start = target.nextSlot();
+            dtos.add(IncomeBookingDTO.builder().itemId(itemID).start(start).end(start.plusMinutes(30)).build());
+        }
+        waitingBookingIDs.clear();
+        for (BulkBookingResult result : state.bookingService.addBookings(bookerID, dtos)) {
+            if (result.getError() != null) {
+                throw new IllegalStateException("Can't add waiting booking: " + result.getError());
+            }
+            waitingBookingIDs.add(result.getBooking().getId());
+        }
+    }
+
+    @Benchmark
+    public OutcomeBookingDTO approveBooking(ServerBenchmarkState state) {
+        return state.bookingService.changeBookingStatus(ownerID, waitingBookingIDs.pop(), true);
+    }
+
+    @State(Scope.Benchmark)
+    public static class ApprovalTarget {
+        @Param({"ONE_ITEM", "ITEM_PER_THREAD"})
+        public String contention;
+
+        private final AtomicInteger threads = new AtomicInteger();
+        private final AtomicLong slots = new AtomicLong();
+        private final LocalDateTime firstStart = LocalDateTime.now().plusYears(5).truncatedTo(ChronoUnit.HOURS);
+
+        private boolean sharedItem() {
+            return "ONE_ITEM".equals(contention);
+        }
+
+        private LocalDateTime nextSlot() {
+            return firstStart.plusHours(slots.getAndIncrement());
+        }
+    }
+}
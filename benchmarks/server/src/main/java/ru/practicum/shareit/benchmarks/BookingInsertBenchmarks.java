@@ -0,0 +1,66 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BulkBookingResult;
+import ru.practicum.shareit.booking.dto.IncomeBookingDTO;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingInsertBenchmarks {
+    @Param({"1", "10", "100", "500"})
+    public int batchSize;
+
+    private final Random random = new Random(11);
+    private LocalDateTime nextBookingStart = LocalDateTime.now().plusYears(3).truncatedTo(ChronoUnit.HOURS);
+
+    @Benchmark
+    public List<BulkBookingResult> addBookings(ServerBenchmarkState state, InsertedRows rows) {
+        BenchmarkDataset dataset = state.dataset;
+        int bookerID = dataset.bookerIDs.get(random.nextInt(dataset.bookerIDs.size()));
+        List<IncomeBookingDTO> dtos = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            dtos.add(IncomeBookingDTO.builder()
+                    .itemId(dataset.availableItemIDs.get(random.nextInt(dataset.availableItemIDs.size())))
+                    .start(nextBookingStart)
+                    .end(nextBookingStart.plusHours(1))
+                    .build());
+            nextBookingStart = nextBookingStart.plusHours(2);
+        }
+        rows.bookings += batchSize;
+        return state.bookingService.addBookings(bookerID, dtos);
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class InsertedRows {
+        public long bookings;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bookings = 0;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.AvailabilitySlot;
+import ru.practicum.shareit.booking.dto.IncomeBookingDTO;
+import ru.practicum.shareit.booking.dto.OutcomeBookingDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingServiceBenchmarks {
+    private static final int PAGE_SIZE = 20;
+
+    private final Random random = new Random(7);
+    private LocalDateTime nextBookingStart = LocalDateTime.now().plusYears(1);
+
+    @Benchmark
+    public List<OutcomeBookingDTO> getBookingsOfBooker(ServerBenchmarkState state, StateQuery query) {
+        int bookerID = state.dataset.bookerIDs.get(random.nextInt(state.dataset.bookerIDs.size()));
+        return state.bookingService.getBookingsOfUserByState(bookerID, query.bookingState, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<OutcomeBookingDTO> getBookingsOfOwner(ServerBenchmarkState state, StateQuery query) {
+        int ownerID = state.dataset.ownerIDs.get(random.nextInt(state.dataset.ownerIDs.size()));
+        return state.bookingService.getBookingsOfUserItemsByState(ownerID, query.bookingState, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public OutcomeBookingDTO getBookingByBooker(ServerBenchmarkState state) {
+        int index = random.nextInt(state.dataset.bookingIDs.size());
+        return state.bookingService.getBookingByID(state.dataset.bookingBookerIDs.get(index),
+                state.dataset.bookingIDs.get(index));
+    }
+
+    @Benchmark
+    public List<AvailabilitySlot> getItemAvailability(ServerBenchmarkState state) {
+        int index = random.nextInt(state.dataset.itemIDs.size());
+        LocalDateTime now = LocalDateTime.now();
+        return state.bookingService.getItemAvailability(state.dataset.itemOwnerIDs.get(index),
+                state.dataset.itemIDs.get(index), now.minusWeeks(2), now.plusWeeks(2));
+    }
+
+    @Benchmark
+    public OutcomeBookingDTO addBooking(ServerBenchmarkState state) {
+        int itemID = state.dataset.availableItemIDs.get(random.nextInt(state.dataset.availableItemIDs.size()));
+        int bookerID = state.dataset.bookerIDs.get(random.nextInt(state.dataset.bookerIDs.size()));
+        IncomeBookingDTO dto = IncomeBookingDTO.builder()
+                .itemId(itemID)
+                .start(nextBookingStart)
+                .end(nextBookingStart.plusHours(1))
+                .build();
+        nextBookingStart = nextBookingStart.plusHours(2);
+        return state.bookingService.addBooking(bookerID, dto);
+    }
+
+    @State(Scope.Benchmark)
+    public static class StateQuery {
+        @Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+        public String bookingState;
+    }
+}
@@ -0,0 +1,85 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.dto.ItemDTO;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemSearchIndex;
+import ru.practicum.shareit.user.model.User;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ItemSearchIndexBenchmarks {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100000", "1000000"})
+    public int items;
+
+    private ItemSearchIndex searchIndex;
+
+    @Setup(Level.Trial)
+    public void buildIndex() {
+        searchIndex = new ItemSearchIndex(generatedItems(items), true);
+        searchIndex.build();
+    }
+
+    @Benchmark
+    public List<ItemDTO> searchCommonName() {
+        return searchIndex.search("drill", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<ItemDTO> searchRareSerial() {
+        return searchIndex.search("serial 77777", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<ItemDTO> searchShortText() {
+        return searchIndex.search("sa", 0, PAGE_SIZE);
+    }
+
+    private static ItemRepository generatedItems(int count) {
+        User owner = User.builder().id(1).name("owner").email("owner@shareit.dev").build();
+        return (ItemRepository) Proxy.newProxyInstance(ItemRepository.class.getClassLoader(),
+                new Class<?>[]{ItemRepository.class}, (proxy, method, args) -> {
+                    if (!"findAvailableItemsAfterID".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    int lastID = (int) args[0];
+                    int lastInBatch = Math.min(count, lastID + ((Pageable) args[1]).getPageSize());
+                    List<Item> batch = new ArrayList<>();
+                    for (int id = lastID + 1; id <= lastInBatch; id++) {
+                        String name = BenchmarkDataset.ITEM_NAMES.get(id % BenchmarkDataset.ITEM_NAMES.size());
+                        batch.add(Item.builder()
+                                .id(id)
+                                .name(name)
+                                .description(name + " in good condition, serial " + id)
+                                .available(true)
+                                .owner(owner)
+                                .build());
+                    }
+                    return batch;
+                });
+    }
+}
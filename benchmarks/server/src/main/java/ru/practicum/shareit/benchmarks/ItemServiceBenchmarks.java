@@ -0,0 +1,54 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.dto.ItemDTO;
+import ru.practicum.shareit.item.dto.ItemWithBookingsAndCommentsDTO;
+
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemServiceBenchmarks {
+    private static final int PAGE_SIZE = 20;
+
+    private final Random random = new Random(7);
+
+    @Benchmark
+    public Collection<ItemWithBookingsAndCommentsDTO> getItemsOfOwner(ServerBenchmarkState state) {
+        int ownerID = state.dataset.ownerIDs.get(random.nextInt(state.dataset.ownerIDs.size()));
+        return state.itemService.getItemsOfUserByID(ownerID, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ItemWithBookingsAndCommentsDTO getItemByOwner(ServerBenchmarkState state) {
+        int index = random.nextInt(state.dataset.itemIDs.size());
+        return state.itemService.getItemByID(state.dataset.itemIDs.get(index), state.dataset.itemOwnerIDs.get(index));
+    }
+
+    @Benchmark
+    public ItemWithBookingsAndCommentsDTO getItemByBooker(ServerBenchmarkState state) {
+        int itemID = state.dataset.itemIDs.get(random.nextInt(state.dataset.itemIDs.size()));
+        int bookerID = state.dataset.bookerIDs.get(random.nextInt(state.dataset.bookerIDs.size()));
+        return state.itemService.getItemByID(itemID, bookerID);
+    }
+
+    @Benchmark
+    public Collection<ItemDTO> searchItems(ServerBenchmarkState state) {
+        String text = BenchmarkDataset.ITEM_NAMES.get(random.nextInt(BenchmarkDataset.ITEM_NAMES.size()));
+        return state.itemService.searchItemsByText(text, 0, PAGE_SIZE);
+    }
+}
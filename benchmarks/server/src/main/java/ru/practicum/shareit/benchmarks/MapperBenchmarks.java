@@ -0,0 +1,126 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingStatus;
+import ru.practicum.shareit.booking.dto.IncomeBookingDTO;
+import ru.practicum.shareit.booking.dto.OutcomeBookingDTO;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.CommentMapper;
+import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.dto.IncomeCommentDTO;
+import ru.practicum.shareit.item.dto.ItemDTO;
+import ru.practicum.shareit.item.dto.ItemWithBookingsAndCommentsDTO;
+import ru.practicum.shareit.item.dto.OutcomeCommentDTO;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.RequestMapper;
+import ru.practicum.shareit.request.dto.IncomeItemRequestDTO;
+import ru.practicum.shareit.request.dto.OutcomeItemRequestWithItemsDTO;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmarks {
+    private static final int REQUEST_ITEMS = 10;
+
+    private User owner;
+    private User booker;
+    private Item item;
+    private ItemDTO itemDto;
+    private Booking booking;
+    private IncomeBookingDTO incomeBookingDto;
+    private Comment comment;
+    private IncomeCommentDTO incomeCommentDto;
+    private ItemRequest request;
+    private IncomeItemRequestDTO incomeRequestDto;
+    private List<ItemDTO> requestItems;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        owner = User.builder().id(1).name("owner").email("owner@shareit.dev").build();
+        booker = User.builder().id(2).name("booker").email("booker@shareit.dev").build();
+        request = ItemRequest.builder().id(3).description("need a cordless drill").requestor(booker)
+                .created(now.minusDays(2)).build();
+        item = Item.builder().id(4).name("drill").description("cordless drill with two batteries").available(true)
+                .owner(owner).request(request).build();
+        itemDto = ItemMapper.itemToItemDTO(item);
+        booking = Booking.builder().id(5).start(now.plusDays(1)).end(now.plusDays(3)).item(item).booker(booker)
+                .itemOwnerId(owner.getId()).status(BookingStatus.APPROVED).build();
+        incomeBookingDto = IncomeBookingDTO.builder().start(booking.getStart()).end(booking.getEnd())
+                .itemId(item.getId()).build();
+        comment = Comment.builder().id(6).text("works great").author(booker).item(item).created(now).build();
+        incomeCommentDto = IncomeCommentDTO.builder().text("works great").build();
+        incomeRequestDto = IncomeItemRequestDTO.builder().description("need a cordless drill").created(now).build();
+        requestItems = IntStream.range(0, REQUEST_ITEMS)
+                .mapToObj(i -> ItemDTO.builder().id(i + 10).name("drill " + i).description("drill").available(true)
+                        .requestId(request.getId()).build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public ItemDTO itemToItemDTO() {
+        return ItemMapper.itemToItemDTO(item);
+    }
+
+    @Benchmark
+    public Item itemDtoToItem() {
+        return ItemMapper.itemDtoToItem(itemDto, owner, request);
+    }
+
+    @Benchmark
+    public ItemWithBookingsAndCommentsDTO itemToItemWithBookingsAndCommentsDTO() {
+        return ItemMapper.itemToItemWithBookingsAndCommentsDTO(item);
+    }
+
+    @Benchmark
+    public Booking incomeBookingDtoToBooking() {
+        return BookingMapper.incomeBookingDtoToBooking(incomeBookingDto, booker, item);
+    }
+
+    @Benchmark
+    public OutcomeBookingDTO bookingToOutcomeBookingDTO() {
+        return BookingMapper.bookingToOutcomeBookingDTO(booking);
+    }
+
+    @Benchmark
+    public Comment incomeCommentDtoToComment() {
+        return CommentMapper.incomeCommentDtoToComment(incomeCommentDto, booker, item);
+    }
+
+    @Benchmark
+    public OutcomeCommentDTO commentToOutcomeCommentDTO() {
+        return CommentMapper.commentToOutcomeCommentDTO(comment);
+    }
+
+    @Benchmark
+    public ItemRequest incomeDtoToItemRequest() {
+        return RequestMapper.incomeDtoToItemRequest(incomeRequestDto, booker);
+    }
+
+    @Benchmark
+    public OutcomeItemRequestWithItemsDTO itemRequestToOutcomeRequestWithItemsDTO() {
+        return RequestMapper.itemRequestToOutcomeRequestWithItemsDTO(request, requestItems);
+    }
+}
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.logging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class LoggingConfig {
+    @Bean
+    public RequestLogSamplingFilter requestLogSamplingFilter(
+            @Value("${shareit.logging.request-log-every-nth:1}") int everyNth) {
+        return new RequestLogSamplingFilter(everyNth);
+    }
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit.logging;
+
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RequestLogSamplingFilter extends OncePerRequestFilter {
+    private final AtomicLong requests = new AtomicLong();
+    private final int everyNth;
+
+    public RequestLogSamplingFilter(int everyNth) {
+        this.everyNth = Math.max(everyNth, 1);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean sampled = requests.getAndIncrement() % everyNth == 0;
+        MDC.put(SampledRequestLogFilter.SAMPLED_KEY, String.valueOf(sampled));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(SampledRequestLogFilter.SAMPLED_KEY);
+        }
+    }
+}
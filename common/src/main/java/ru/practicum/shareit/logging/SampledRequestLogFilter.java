@@ -0,0 +1,23 @@
+package ru.practicum.shareit.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+public class SampledRequestLogFilter extends TurboFilter {
+    public static final String SAMPLED_KEY = "requestLogSampled";
+    private static final String CONTROLLER_SUFFIX = "Controller";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (level != Level.INFO || !logger.getName().endsWith(CONTROLLER_SUFFIX)
+                || !Boolean.FALSE.toString().equals(MDC.get(SAMPLED_KEY))) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.logging;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RequestLogSamplingFilterTests {
+    @Test
+    void doFilter_marksEveryNthRequestSampled_andClearsMarkAfterRequest() throws Exception {
+        RequestLogSamplingFilter filter = new RequestLogSamplingFilter(3);
+        List<String> marks = new ArrayList<>();
+
+        for (int i = 0; i < 6; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/items"), new MockHttpServletResponse(),
+                    (req, res) -> marks.add(MDC.get(SampledRequestLogFilter.SAMPLED_KEY)));
+        }
+
+        assertEquals(List.of("true", "false", "false", "true", "false", "false"), marks);
+        assertNull(MDC.get(SampledRequestLogFilter.SAMPLED_KEY));
+    }
+
+    @Test
+    void doFilter_marksAllRequestsSampled_whenEveryNthIsOne() throws Exception {
+        RequestLogSamplingFilter filter = new RequestLogSamplingFilter(1);
+        List<String> marks = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/items"), new MockHttpServletResponse(),
+                    (req, res) -> marks.add(MDC.get(SampledRequestLogFilter.SAMPLED_KEY)));
+        }
+
+        assertEquals(List.of("true", "true", "true"), marks);
+    }
+}
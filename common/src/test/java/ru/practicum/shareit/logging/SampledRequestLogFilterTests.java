@@ -0,0 +1,50 @@
+package ru.practicum.shareit.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SampledRequestLogFilterTests {
+    private final LoggerContext context = new LoggerContext();
+    private final Logger controllerLogger = context.getLogger("ru.practicum.shareit.item.ItemController");
+    private final SampledRequestLogFilter filter = new SampledRequestLogFilter();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void decide_dropsControllerInfoLog_ofNotSampledRequest() {
+        MDC.put(SampledRequestLogFilter.SAMPLED_KEY, "false");
+
+        assertEquals(FilterReply.DENY, filter.decide(null, controllerLogger, Level.INFO, "log", null, null));
+    }
+
+    @Test
+    void decide_passesControllerInfoLog_ofSampledRequest() {
+        MDC.put(SampledRequestLogFilter.SAMPLED_KEY, "true");
+
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, controllerLogger, Level.INFO, "log", null, null));
+    }
+
+    @Test
+    void decide_passesControllerInfoLog_outsideOfRequest() {
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, controllerLogger, Level.INFO, "log", null, null));
+    }
+
+    @Test
+    void decide_neverDropsWarningsAndOtherLoggers() {
+        MDC.put(SampledRequestLogFilter.SAMPLED_KEY, "false");
+        Logger serviceLogger = context.getLogger("ru.practicum.shareit.item.service.ItemServiceImpl");
+
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, controllerLogger, Level.WARN, "log", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, serviceLogger, Level.INFO, "log", null, null));
+    }
+}
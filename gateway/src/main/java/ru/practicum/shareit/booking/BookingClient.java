@@ -1,16 +1,19 @@
 package ru.practicum.shareit.booking;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.dto.BookingDTO;
 import ru.practicum.shareit.booking.dto.BookingStateRequest;
 import ru.practicum.shareit.client.BaseClient;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -18,36 +21,62 @@ public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                         ClientHttpConnector connector, MeterRegistry meterRegistry) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(connector)
+                        .build(),
+                meterRegistry
         );
     }
 
-    public ResponseEntity<Object> addBooking(long userId, BookingDTO dto) {
+    public Mono<ResponseEntity<Object>> addBooking(long userId, BookingDTO dto) {
         return post("", userId, dto);
     }
 
-    public ResponseEntity<Object> changeBookingStatus(long userID, int bookingID, boolean approve) {
+    public Mono<ResponseEntity<Object>> addBookings(long userId, List<BookingDTO> dtos) {
+        return post("/bulk", userId, dtos);
+    }
+
+    public Mono<ResponseEntity<Object>> changeBookingStatus(long userID, int bookingID, boolean approve) {
         String path = String.format("/%d?approved={approved}", bookingID);
         Map<String, Object> params = Map.of("approved", approve);
         return patch(path, userID, params, null);
     }
 
-    public ResponseEntity<Object> getBookingByID(long userId, long bookingId) {
+    public Mono<ResponseEntity<Object>> changeBookingsStatus(long userID, List<Integer> bookingIDs, boolean approve) {
+        Map<String, Object> params = Map.of("approved", approve);
+        return patch("/bulk?approved={approved}", userID, params, bookingIDs);
+    }
+
+    public Mono<ResponseEntity<Object>> getBookingByID(long userId, long bookingId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getBookingsOfUserByState(long userId, BookingStateRequest state, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getBookingsOfUserByState(long userId, BookingStateRequest state, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of("state", state.name(), "from", from, "size", size);
         return get("?state={state}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getBookingsOfUserItemsByState(long userId, BookingStateRequest state, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getBookingsOfUserItemsByState(long userId, BookingStateRequest state, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of("state", state.name(), "from", from, "size", size);
         return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
     }
+
+    public Mono<ResponseEntity<Object>> getBookingsOfUserAfterCursor(long userId, String cursor, Integer size) {
+        Map<String, Object> parameters = Map.of("cursor", cursor, "size", size);
+        return get("?cursor={cursor}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getBookingsOfUserItemsAfterCursor(long userId, String cursor, Integer size) {
+        Map<String, Object> parameters = Map.of("cursor", cursor, "size", size);
+        return get("/owner?cursor={cursor}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getItemAvailability(long userId, int itemId, LocalDateTime start, LocalDateTime end) {
+        Map<String, Object> parameters = Map.of("start", start, "end", end);
+        return get("/items/" + itemId + "/availability?start={start}&end={end}", userId, parameters);
+    }
 }
@@ -1,7 +1,11 @@
 package ru.practicum.shareit.booking;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -12,12 +16,19 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.dto.BookingDTO;
 import ru.practicum.shareit.booking.dto.BookingStateRequest;
 import ru.practicum.shareit.exceptions.PageValidationException;
 import ru.practicum.shareit.exceptions.UnsupportedStatusException;
 
 import javax.validation.Valid;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 @RestController
 @RequestMapping(path = "/bookings")
@@ -25,55 +36,140 @@ import javax.validation.Valid;
 @Slf4j
 public class BookingController {
     private final BookingClient bookingClient;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
-    public ResponseEntity<Object> create(@RequestHeader("X-Sharer-User-Id") int userID,
-                                         @Valid @RequestBody BookingDTO bookingDto) {
+    public Mono<ResponseEntity<Object>> create(@RequestHeader("X-Sharer-User-Id") int userID,
+                                               @Valid @RequestBody BookingDTO bookingDto) {
         BookingDtoValidator.validate(bookingDto);
-        log.info("Gateway : POST to /bookings from userID {} with {}", userID, bookingDto.toString());
+        log.info("Gateway : POST to /bookings from userID {} with {}", userID, bookingDto);
         return bookingClient.addBooking(userID, bookingDto);
     }
 
+    @PostMapping("/bulk")
+    public Mono<ResponseEntity<Object>> createAll(@RequestHeader("X-Sharer-User-Id") int userID,
+                                                  @RequestBody List<BookingDTO> bookingDtos) {
+        List<String> errors = BookingDtoValidator.validateAll(bookingDtos, validator);
+        List<BookingDTO> valid = new ArrayList<>();
+        for (int i = 0; i < bookingDtos.size(); i++) {
+            if (errors.get(i) == null) {
+                valid.add(bookingDtos.get(i));
+            }
+        }
+        log.info("Gateway : POST to /bookings/bulk from userID {} with {} bookings, {} invalid", userID, bookingDtos.size(),
+                bookingDtos.size() - valid.size());
+        if (valid.size() == bookingDtos.size()) {
+            return bookingClient.addBookings(userID, bookingDtos);
+        }
+        if (valid.isEmpty()) {
+            return Mono.just(ResponseEntity.ok(mergeBulkResults(objectMapper.createArrayNode(), errors)));
+        }
+        return bookingClient.addBookings(userID, valid).map(response -> withInvalidBookings(response, errors));
+    }
+
+    private ResponseEntity<Object> withInvalidBookings(ResponseEntity<Object> response, List<String> errors) {
+        if (!response.getStatusCode().is2xxSuccessful() || !(response.getBody() instanceof byte[])) {
+            return response;
+        }
+        try {
+            JsonNode serverResults = objectMapper.readTree((byte[]) response.getBody());
+            return ResponseEntity.status(response.getStatusCode())
+                    .headers(response.getHeaders())
+                    .body(objectMapper.writeValueAsBytes(mergeBulkResults(serverResults, errors)));
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable bulk booking results of server", e);
+        }
+    }
+
+    private ArrayNode mergeBulkResults(JsonNode serverResults, List<String> errors) {
+        ArrayNode results = objectMapper.createArrayNode();
+        Iterator<JsonNode> forwarded = serverResults.elements();
+        for (String error : errors) {
+            if (error == null) {
+                results.add(forwarded.next());
+            } else {
+                results.addObject().putNull("booking").put("error", error);
+            }
+        }
+        return results;
+    }
+
     @PatchMapping("/{bookingID}")
-    public ResponseEntity<Object> approveBooking(@RequestHeader("X-Sharer-User-Id") int userID,
-                                                 @PathVariable int bookingID,
-                                                 @RequestParam boolean approved) {
+    public Mono<ResponseEntity<Object>> approveBooking(@RequestHeader("X-Sharer-User-Id") int userID,
+                                                       @PathVariable int bookingID,
+                                                       @RequestParam boolean approved) {
         log.info("Gateway : PATCH to /bookings/{} from userID {} with approved = {}", bookingID, userID, approved);
         return bookingClient.changeBookingStatus(userID, bookingID, approved);
     }
 
+    @PatchMapping("/bulk")
+    public Mono<ResponseEntity<Object>> approveBookings(@RequestHeader("X-Sharer-User-Id") int userID,
+                                                        @RequestParam boolean approved,
+                                                        @RequestBody List<Integer> bookingIDs) {
+        BookingDtoValidator.validateBookingIDs(bookingIDs);
+        log.info("Gateway : PATCH to /bookings/bulk from userID {} with approved = {} for {} bookings", userID, approved, bookingIDs.size());
+        return bookingClient.changeBookingsStatus(userID, bookingIDs, approved);
+    }
+
     @GetMapping("/{bookingID}")
-    public ResponseEntity<Object> findBookingByID(@RequestHeader("X-Sharer-User-Id") int userID,
-                                                  @PathVariable int bookingID) {
+    public Mono<ResponseEntity<Object>> findBookingByID(@RequestHeader("X-Sharer-User-Id") int userID,
+                                                        @PathVariable int bookingID) {
         log.info("Gateway : GET to /bookings/{} from userID {}", bookingID, userID);
         return bookingClient.getBookingByID(userID, bookingID);
     }
 
     @GetMapping
-    public ResponseEntity<Object> findBookingsOfUserInState(@RequestHeader("X-Sharer-User-Id") int userID,
-                                                            @RequestParam(defaultValue = "ALL") String state,
-                                                            @RequestParam(defaultValue = "0") int from,
-                                                            @RequestParam(defaultValue = "5") int size) {
+    public Mono<ResponseEntity<Object>> findBookingsOfUserInState(@RequestHeader("X-Sharer-User-Id") int userID,
+                                                                  @RequestParam(defaultValue = "ALL") String state,
+                                                                  @RequestParam(defaultValue = "0") int from,
+                                                                  @RequestParam(defaultValue = "5") int size,
+                                                                  @RequestParam(required = false) String cursor) {
         BookingStateRequest stateRequest = BookingStateRequest.from(state)
                 .orElseThrow(() -> new UnsupportedStatusException("Unknown state: UNSUPPORTED_STATUS"));
         if (from < 0 || size <= 0) {
             throw new PageValidationException("Page or size can't be negative");
         }
+        if (cursor != null) {
+            if (stateRequest != BookingStateRequest.ALL) {
+                throw new PageValidationException("Cursor pagination supported only for state ALL");
+            }
+            log.info("Gateway : GET to /bookings from userID {} with cursor {} , size {}", userID, cursor, size);
+            return bookingClient.getBookingsOfUserAfterCursor(userID, cursor, size);
+        }
         log.info("Gateway : GET to /bookings from userID {} with state {} , from {} , size {}", userID, state, from, size);
         return bookingClient.getBookingsOfUserByState(userID, stateRequest, from, size);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> findBookingsOfItemOwnerByState(@RequestHeader("X-Sharer-User-Id") int userID,
-                                                                 @RequestParam(defaultValue = "ALL") String state,
-                                                                 @RequestParam(defaultValue = "0") int from,
-                                                                 @RequestParam(defaultValue = "5") int size) {
+    public Mono<ResponseEntity<Object>> findBookingsOfItemOwnerByState(@RequestHeader("X-Sharer-User-Id") int userID,
+                                                                       @RequestParam(defaultValue = "ALL") String state,
+                                                                       @RequestParam(defaultValue = "0") int from,
+                                                                       @RequestParam(defaultValue = "5") int size,
+                                                                       @RequestParam(required = false) String cursor) {
         BookingStateRequest stateRequest = BookingStateRequest.from(state)
                 .orElseThrow(() -> new UnsupportedStatusException("Unknown state: UNSUPPORTED_STATUS"));
         if (from < 0 || size <= 0) {
             throw new PageValidationException("Page or size can't be negative");
         }
+        if (cursor != null) {
+            if (stateRequest != BookingStateRequest.ALL) {
+                throw new PageValidationException("Cursor pagination supported only for state ALL");
+            }
+            log.info("Gateway : GET to /bookings/owner from userID {} with cursor {} , size {}", userID, cursor, size);
+            return bookingClient.getBookingsOfUserItemsAfterCursor(userID, cursor, size);
+        }
         log.info("Gateway : GET to /bookings/owner from userID {} with state {} , from {} , size {}", userID, state, from, size);
         return bookingClient.getBookingsOfUserItemsByState(userID, stateRequest, from, size);
     }
+
+    @GetMapping("/items/{itemID}/availability")
+    public Mono<ResponseEntity<Object>> findItemAvailability(@RequestHeader("X-Sharer-User-Id") int userID,
+                                                             @PathVariable int itemID,
+                                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+                                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+        BookingDtoValidator.validateAvailabilityPeriod(start, end);
+        log.info("Gateway : GET to /bookings/items/{}/availability from userID {} with start {} , end {}", itemID, userID, start, end);
+        return bookingClient.getItemAvailability(userID, itemID, start, end);
+    }
 }
@@ -3,7 +3,17 @@ package ru.practicum.shareit.booking;
 import ru.practicum.shareit.booking.dto.BookingDTO;
 import ru.practicum.shareit.exceptions.BookingValidationException;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 public class BookingDtoValidator {
+    private static final int MAX_AVAILABILITY_DAYS = 366;
+    private static final int MAX_BULK_SIZE = 500;
+
     public static void validate(BookingDTO dto) {
         if (dto.getStart().isAfter(dto.getEnd())) {
             throw new BookingValidationException("Start cannot be after end of booking");
@@ -12,4 +22,50 @@ public class BookingDtoValidator {
             throw new BookingValidationException("Start cannot be equals to end of booking");
         }
     }
+
+    public static void validateAvailabilityPeriod(LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            throw new BookingValidationException("Start of period must be before end");
+        }
+        if (start.plusDays(MAX_AVAILABILITY_DAYS).isBefore(end)) {
+            throw new BookingValidationException("Period can't be longer than " + MAX_AVAILABILITY_DAYS + " days");
+        }
+    }
+
+    public static List<String> validateAll(List<BookingDTO> dtos, Validator validator) {
+        if (dtos.isEmpty() || dtos.size() > MAX_BULK_SIZE) {
+            throw new BookingValidationException("Number of bookings must be from 1 to " + MAX_BULK_SIZE);
+        }
+        List<String> errors = new ArrayList<>(dtos.size());
+        for (BookingDTO dto : dtos) {
+            errors.add(validationError(dto, validator));
+        }
+        return errors;
+    }
+
+    private static String validationError(BookingDTO dto, Validator validator) {
+        if (dto == null) {
+            return "Booking must not be null";
+        }
+        Set<ConstraintViolation<BookingDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<BookingDTO> violation = violations.iterator().next();
+            return violation.getPropertyPath() + " " + violation.getMessage();
+        }
+        try {
+            validate(dto);
+        } catch (BookingValidationException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    public static void validateBookingIDs(List<Integer> bookingIDs) {
+        if (bookingIDs.isEmpty() || bookingIDs.size() > MAX_BULK_SIZE) {
+            throw new BookingValidationException("Number of bookings must be from 1 to " + MAX_BULK_SIZE);
+        }
+        if (bookingIDs.contains(null)) {
+            throw new BookingValidationException("Booking ID must not be null");
+        }
+    }
 }
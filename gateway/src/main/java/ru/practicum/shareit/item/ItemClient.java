@@ -1,11 +1,12 @@
 package ru.practicum.shareit.item;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.item.dto.CommentDTO;
 import ru.practicum.shareit.item.dto.ItemDTO;
@@ -16,38 +17,45 @@ import java.util.Map;
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                      ClientHttpConnector connector, MeterRegistry meterRegistry) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(connector)
+                        .build(),
+                meterRegistry
         );
     }
 
-    public ResponseEntity<Object> addItem(int userID, ItemDTO dto) {
+    public Mono<ResponseEntity<Object>> addItem(int userID, ItemDTO dto) {
         return post("", userID, dto);
     }
 
-    public ResponseEntity<Object> addCommentToItemByUser(int itemID, int userID, CommentDTO dto) {
+    public Mono<ResponseEntity<Object>> addCommentToItemByUser(int itemID, int userID, CommentDTO dto) {
         String path = String.format("/%d/comment", itemID);
         return post(path, userID, dto);
     }
 
-    public ResponseEntity<Object> patchItem(int userID, int itemID, ItemDTO dto) {
+    public Mono<ResponseEntity<Object>> patchItem(int userID, int itemID, ItemDTO dto) {
         return patch("/" + itemID, userID, dto);
     }
 
-    public ResponseEntity<Object> getItemsOfUserByID(long userID, int from, int size) {
+    public Mono<ResponseEntity<Object>> getItemsOfUserByID(long userID, int from, int size) {
         Map<String, Object> params = Map.of("from", from, "size", size);
         return get("?from={from}&size={size}", userID, params);
     }
 
-    public ResponseEntity<Object> getItemByID(int userID, int itemID) {
+    public Mono<ResponseEntity<Object>> getItemsOfUserAfterCursor(long userID, String cursor, int size) {
+        Map<String, Object> params = Map.of("cursor", cursor, "size", size);
+        return get("?cursor={cursor}&size={size}", userID, params);
+    }
+
+    public Mono<ResponseEntity<Object>> getItemByID(int userID, int itemID) {
         return get("/" + itemID, userID);
     }
 
-    public ResponseEntity<Object> searchItemsByText(long userID, String text, int from, int size) {
+    public Mono<ResponseEntity<Object>> searchItemsByText(long userID, String text, int from, int size) {
         Map<String, Object> params = Map.of("text", text, "from", from, "size", size);
         return get("/search?text={text}&from={from}&size={size}", userID, params);
     }
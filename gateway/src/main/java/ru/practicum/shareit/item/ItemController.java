@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.exceptions.PageValidationException;
 import ru.practicum.shareit.item.dto.CommentDTO;
 import ru.practicum.shareit.item.dto.ItemDTO;
@@ -27,49 +28,54 @@ public class ItemController {
     private final ItemClient itemClient;
 
     @PostMapping
-    public ResponseEntity<Object> create(@RequestHeader("X-Sharer-User-Id") int userID, @Valid @RequestBody ItemDTO itemDto) {
-        log.info("Gateway : POST to /items from userID {} with {}", userID, itemDto.toString());
+    public Mono<ResponseEntity<Object>> create(@RequestHeader("X-Sharer-User-Id") int userID, @Valid @RequestBody ItemDTO itemDto) {
+        log.info("Gateway : POST to /items from userID {} with {}", userID, itemDto);
         return itemClient.addItem(userID, itemDto);
     }
 
     @PostMapping("/{id}/comment")
-    public ResponseEntity<Object> addComment(@RequestHeader("X-Sharer-User-Id") int userID, @PathVariable int id,
-                                             @Valid @RequestBody CommentDTO commentDTO) {
-        log.info("Gateway : POST to /items/{}/comment from userID {} with {}", id, userID, commentDTO.toString());
+    public Mono<ResponseEntity<Object>> addComment(@RequestHeader("X-Sharer-User-Id") int userID, @PathVariable int id,
+                                                   @Valid @RequestBody CommentDTO commentDTO) {
+        log.info("Gateway : POST to /items/{}/comment from userID {} with {}", id, userID, commentDTO);
         return itemClient.addCommentToItemByUser(id, userID, commentDTO);
     }
 
     @GetMapping
-    public ResponseEntity<Object> findItemsByOwner(@RequestHeader("X-Sharer-User-Id") int userID,
-                                                   @RequestParam(defaultValue = "0") int from,
-                                                   @RequestParam(defaultValue = "5") int size) {
+    public Mono<ResponseEntity<Object>> findItemsByOwner(@RequestHeader("X-Sharer-User-Id") int userID,
+                                                         @RequestParam(defaultValue = "0") int from,
+                                                         @RequestParam(defaultValue = "5") int size,
+                                                         @RequestParam(required = false) String cursor) {
         if (from < 0 || size <= 0) {
             throw new PageValidationException("Page or size can't be negative");
         }
+        if (cursor != null) {
+            log.info("Gateway : GET to /items from userID {} with cursor {} and size {}", userID, cursor, size);
+            return itemClient.getItemsOfUserAfterCursor(userID, cursor, size);
+        }
         log.info("Gateway : GET to /items from userID {} with from {} and size {}", userID, from, size);
         return itemClient.getItemsOfUserByID(userID, from, size);
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<Object> patch(@RequestHeader("X-Sharer-User-Id") int userID, @PathVariable int id, @RequestBody ItemDTO itemDto) {
-        log.info("Gateway : PATCH to /items/{} from userID {} with {}", id, userID, itemDto.toString());
+    public Mono<ResponseEntity<Object>> patch(@RequestHeader("X-Sharer-User-Id") int userID, @PathVariable int id, @RequestBody ItemDTO itemDto) {
+        log.info("Gateway : PATCH to /items/{} from userID {} with {}", id, userID, itemDto);
         itemDto.setId(id);
         return itemClient.patchItem(userID, id, itemDto);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Object> findItemByID(@PathVariable int id, @RequestHeader("X-Sharer-User-Id") int userID) {
+    public Mono<ResponseEntity<Object>> findItemByID(@PathVariable int id, @RequestHeader("X-Sharer-User-Id") int userID) {
         log.info("Gateway : GET to /items/{} from userID {}", id, userID);
         return itemClient.getItemByID(userID, id);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> findItemsByText(@RequestHeader("X-Sharer-User-Id") int userID,
-                                                  @RequestParam String text,
-                                                  @RequestParam(defaultValue = "0") int from,
-                                                  @RequestParam(defaultValue = "5") int size) {
+    public Mono<ResponseEntity<Object>> findItemsByText(@RequestHeader("X-Sharer-User-Id") int userID,
+                                                        @RequestParam String text,
+                                                        @RequestParam(defaultValue = "0") int from,
+                                                        @RequestParam(defaultValue = "5") int size) {
         if (text == null || text.isBlank()) {
-            return ResponseEntity.ok(Collections.emptyList());
+            return Mono.just(ResponseEntity.ok(Collections.emptyList()));
         }
         if (from < 0 || size <= 0) {
             throw new PageValidationException("Page or size can't be negative");
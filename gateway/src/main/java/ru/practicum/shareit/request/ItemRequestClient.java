@@ -1,12 +1,13 @@
 package ru.practicum.shareit.request;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.request.dto.ItemRequestDTO;
 
@@ -17,28 +18,30 @@ public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                             ClientHttpConnector connector, MeterRegistry meterRegistry) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(connector)
+                        .build(),
+                meterRegistry
         );
     }
 
-    public ResponseEntity<Object> addRequest(int userID, ItemRequestDTO dto) {
+    public Mono<ResponseEntity<Object>> addRequest(int userID, ItemRequestDTO dto) {
         return post("", userID, dto);
     }
 
-    public ResponseEntity<Object> getRequestsOfUserByID(int userID) {
+    public Mono<ResponseEntity<Object>> getRequestsOfUserByID(int userID) {
         return get("", userID);
     }
 
-    public ResponseEntity<Object> getRequestByID(int userID, int requestID) {
+    public Mono<ResponseEntity<Object>> getRequestByID(int userID, int requestID) {
         return get("/" + requestID, userID);
     }
 
-    public ResponseEntity<Object> getPageOfOtherUsersRequests(long userID, int from, int size) {
+    public Mono<ResponseEntity<Object>> getPageOfOtherUsersRequests(long userID, int from, int size) {
         Map<String, Object> params = Map.of("from", from, "size", size);
         return get("/all?from={from}&size={size}", userID, params);
     }
@@ -1,12 +1,13 @@
 package ru.practicum.shareit.user;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.user.dto.UserDTO;
 
@@ -15,32 +16,34 @@ public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                      ClientHttpConnector connector, MeterRegistry meterRegistry) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(connector)
+                        .build(),
+                meterRegistry
         );
     }
 
-    public ResponseEntity<Object> addUser(UserDTO dto) {
+    public Mono<ResponseEntity<Object>> addUser(UserDTO dto) {
         return post("", dto);
     }
 
-    public ResponseEntity<Object> patchUser(int id, UserDTO dto) {
+    public Mono<ResponseEntity<Object>> patchUser(int id, UserDTO dto) {
         return patch("/" + id, dto);
     }
 
-    public ResponseEntity<Object> deleteUser(int id) {
+    public Mono<ResponseEntity<Object>> deleteUser(int id) {
         return delete("/" + id, id);
     }
 
-    public ResponseEntity<Object> getUserByID(int id) {
+    public Mono<ResponseEntity<Object>> getUserByID(int id) {
         return get("/" + id, id);
     }
 
-    public ResponseEntity<Object> getAllUsers() {
+    public Mono<ResponseEntity<Object>> getAllUsers() {
         return get("");
     }
 }
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.dto.UserDTO;
 
 import javax.validation.Valid;
@@ -23,32 +24,32 @@ public class UserController {
     private final UserClient userClient;
 
     @GetMapping
-    public ResponseEntity<Object> getAllUsers() {
+    public Mono<ResponseEntity<Object>> getAllUsers() {
         log.info("Gateway : GET to /users");
         return userClient.getAllUsers();
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Object> getUserByID(@PathVariable int id) {
+    public Mono<ResponseEntity<Object>> getUserByID(@PathVariable int id) {
         log.info("Gateway : GET to /users/{}", id);
         return userClient.getUserByID(id);
     }
 
     @PostMapping
-    public ResponseEntity<Object> create(@Valid @RequestBody UserDTO userDto) {
-        log.info("Gateway : POST to /users with {}", userDto.toString());
+    public Mono<ResponseEntity<Object>> create(@Valid @RequestBody UserDTO userDto) {
+        log.info("Gateway : POST to /users with {}", userDto);
         return userClient.addUser(userDto);
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<Object> patch(@PathVariable int id, @RequestBody UserDTO userDto) {
+    public Mono<ResponseEntity<Object>> patch(@PathVariable int id, @RequestBody UserDTO userDto) {
         userDto.setId(id);
-        log.info("Gateway : PATCH to /users/{} with {}", id, userDto.toString());
+        log.info("Gateway : PATCH to /users/{} with {}", id, userDto);
         return userClient.patchUser(id, userDto);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Object> delete(@PathVariable int id) {
+    public Mono<ResponseEntity<Object>> delete(@PathVariable int id) {
         log.info("Gateway : DELETE to /users/{}", id);
         return userClient.deleteUser(id);
     }
@@ -0,0 +1,67 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.user.UserClient;
+import ru.practicum.shareit.user.dto.UserDTO;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+public class NettyServerTests {
+    @Autowired
+    private ReactiveWebServerApplicationContext context;
+    @Autowired
+    private WebTestClient webClient;
+    @MockBean
+    private UserClient userClient;
+
+    @Test
+    void gateway_servedByNetty_whenReactive() {
+        assertTrue(context.getWebServer() instanceof NettyWebServer);
+    }
+
+    @Test
+    void getUser_serverBytesPassedThrough() {
+        String json = "{\"id\":1,\"name\":\"Jo\",\"email\":\"j@i.jo\"}";
+        when(userClient.getUserByID(1)).thenReturn(Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .<Object>body(json.getBytes(StandardCharsets.UTF_8))));
+
+        webClient.get().uri("/users/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(String.class).isEqualTo(json);
+    }
+
+    @Test
+    void create_badRequest_whenEmailIncorrect() {
+        UserDTO userDTO = UserDTO.builder().name("first").email("kgsdgn").build();
+
+        webClient.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(userDTO)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(userClient, never()).addUser(any());
+    }
+}
@@ -7,17 +7,30 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.dto.BookingDTO;
 import ru.practicum.shareit.booking.dto.BookingStateRequest;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = BookingController.class)
@@ -203,4 +216,149 @@ public class BookingControllerTests {
         verify(client, never()).getBookingsOfUserItemsByState(userID, BookingStateRequest.ALL, from, size);
         assertEquals(response, "{\"error\":\"Unknown state: UNSUPPORTED_STATUS\"}");
     }
+
+    @SneakyThrows
+    @Test
+    void findBookingsOfUserInState_error_whenCursorWithNotAllState() {
+        int userID = 88;
+        int size = 5;
+
+        String response = mvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", userID)
+                        .param("cursor", "MTU")
+                        .param("size", String.valueOf(size))
+                        .param("state", BookingStateRequest.PAST.name()))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsString();
+
+        verify(client, never()).getBookingsOfUserAfterCursor(userID, "MTU", size);
+        assertEquals("{\"error\":\"Cursor pagination supported only for state ALL\"}", response);
+    }
+
+    @SneakyThrows
+    @Test
+    void findItemAvailability_error_whenStartAfterEnd() {
+        int userID = 4;
+        int itemID = 9;
+        String response = mvc.perform(get("/bookings/items/{itemID}/availability", itemID)
+                        .header("X-Sharer-User-Id", userID)
+                        .param("start", "2030-01-17T12:00:00")
+                        .param("end", "2030-01-10T12:00:00"))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsString();
+
+        verify(client, never()).getItemAvailability(userID, itemID,
+                LocalDateTime.of(2030, 1, 17, 12, 0), LocalDateTime.of(2030, 1, 10, 12, 0));
+        assertEquals("{\"error\":\"Start of period must be before end\"}", response);
+    }
+
+    @SneakyThrows
+    @Test
+    void findItemAvailability_error_whenPeriodTooLong() {
+        mvc.perform(get("/bookings/items/{itemID}/availability", 9)
+                        .header("X-Sharer-User-Id", 4)
+                        .param("start", "2030-01-10T12:00:00")
+                        .param("end", "2031-06-10T12:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @SneakyThrows
+    @Test
+    void createAll_invalidElementReported_validOnesForwarded() {
+        int userID = 4;
+        BookingDTO valid = BookingDTO.builder()
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .itemId(6)
+                .build();
+        BookingDTO invalid = BookingDTO.builder()
+                .start(LocalDateTime.now().plusDays(3))
+                .end(LocalDateTime.now().plusDays(2))
+                .itemId(7)
+                .build();
+        when(client.addBookings(userID, List.of(valid))).thenReturn(Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("[{\"booking\":{\"id\":1},\"error\":null}]".getBytes(StandardCharsets.UTF_8))));
+
+        MvcResult result = mvc.perform(post("/bookings/bulk")
+                        .header("X-Sharer-User-Id", userID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(invalid, valid))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String response = mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        verify(client).addBookings(userID, List.of(valid));
+        assertEquals("[{\"booking\":null,\"error\":\"Start cannot be after end of booking\"},"
+                + "{\"booking\":{\"id\":1},\"error\":null}]", response);
+    }
+
+    @SneakyThrows
+    @Test
+    void createAll_serverNotCalled_whenAllElementsInvalid() {
+        int userID = 4;
+        List<BookingDTO> incomeDTOs = List.of(BookingDTO.builder()
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .build());
+
+        MvcResult result = mvc.perform(post("/bookings/bulk")
+                        .header("X-Sharer-User-Id", userID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(incomeDTOs)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String response = mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        verify(client, never()).addBookings(anyLong(), anyList());
+        assertEquals("[{\"booking\":null,\"error\":\"itemId must not be null\"}]", response);
+    }
+
+    @SneakyThrows
+    @Test
+    void createAll_error_whenEmptyList() {
+        String response = mvc.perform(post("/bookings/bulk")
+                        .header("X-Sharer-User-Id", 4)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals("{\"error\":\"Number of bookings must be from 1 to 500\"}", response);
+    }
+
+    @SneakyThrows
+    @Test
+    void approveBookings_error_whenTooManyIDs() {
+        List<Integer> bookingIDs = IntStream.rangeClosed(1, 501).boxed().collect(Collectors.toList());
+
+        String response = mvc.perform(patch("/bookings/bulk")
+                        .header("X-Sharer-User-Id", 4)
+                        .param("approved", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bookingIDs)))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsString();
+
+        verify(client, never()).changeBookingsStatus(4, bookingIDs, true);
+        assertEquals("{\"error\":\"Number of bookings must be from 1 to 500\"}", response);
+    }
+
+    @SneakyThrows
+    @Test
+    void approveBookings_error_whenIDIsNull() {
+        String response = mvc.perform(patch("/bookings/bulk")
+                        .header("X-Sharer-User-Id", 4)
+                        .param("approved", "false")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, null]"))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals("{\"error\":\"Booking ID must not be null\"}", response);
+    }
 }
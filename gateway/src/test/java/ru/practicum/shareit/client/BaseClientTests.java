@@ -0,0 +1,102 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class BaseClientTests {
+    private final List<ClientRequest> requests = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ClientResponse serverResponse;
+    private BaseClient client;
+
+    @BeforeEach
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:9090/items")
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(serverResponse);
+                })
+                .build();
+        client = new BaseClient(webClient, meterRegistry);
+    }
+
+    @Test
+    void get_passesServerBodyAndHeadersThrough() {
+        String json = "{\"id\":1,\"name\":\"dollar\"}";
+        serverResponse = ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header("X-Next-Cursor", "MQ")
+                .header(HttpHeaders.DATE, "Mon, 01 Jan 2024 00:00:00 GMT")
+                .body(json)
+                .build();
+
+        ResponseEntity<Object> response = client.get("/1", 3).block();
+
+        assertEquals(1, requests.size());
+        assertEquals("http://localhost:9090/items/1", requests.get(0).url().toString());
+        assertEquals("3", requests.get(0).headers().getFirst("X-Sharer-User-Id"));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(json.getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("MQ", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.DATE));
+    }
+
+    @Test
+    void get_passesServerErrorThrough() {
+        String json = "{\"error\":\"Item with ID 1 not present\"}";
+        serverResponse = ClientResponse.create(HttpStatus.NOT_FOUND)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(json)
+                .build();
+
+        ResponseEntity<Object> response = client.get("/1", 3).block();
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertArrayEquals(json.getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void delete_emptyBody_whenServerRespondsWithoutContent() {
+        serverResponse = ClientResponse.create(HttpStatus.OK).build();
+
+        ResponseEntity<Object> response = client.delete("/1", 3).block();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void get_recordsTimerTaggedByClientAndStatus() {
+        serverResponse = ClientResponse.create(HttpStatus.NOT_FOUND).build();
+
+        client.get("/1", 3).block();
+        client.get("/2", 3).block();
+
+        Timer timer = meterRegistry.find("shareit.client.requests")
+                .tags("client", "BaseClient", "method", "GET", "status", "404")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+}
@@ -2,6 +2,8 @@ package ru.practicum.shareit.booking;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,10 +13,17 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.shareit.PageCursor;
+import ru.practicum.shareit.booking.dto.AvailabilitySlot;
+import ru.practicum.shareit.booking.dto.BookingStateRequest;
+import ru.practicum.shareit.booking.dto.BookingStatusChangeResult;
+import ru.practicum.shareit.booking.dto.BulkBookingResult;
 import ru.practicum.shareit.booking.dto.IncomeBookingDTO;
 import ru.practicum.shareit.booking.dto.OutcomeBookingDTO;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exceptions.CursorValidationException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -27,10 +36,17 @@ public class BookingController {
     @PostMapping
     public OutcomeBookingDTO create(@RequestHeader("X-Sharer-User-Id") int userID,
                                     @RequestBody IncomeBookingDTO bookingDto) {
-        log.info("Server : POST to /bookings from userID {} with {}", userID, bookingDto.toString());
+        log.info("Server : POST to /bookings from userID {} with {}", userID, bookingDto);
         return bookingService.addBooking(userID, bookingDto);
     }
 
+    @PostMapping("/bulk")
+    public List<BulkBookingResult> createAll(@RequestHeader("X-Sharer-User-Id") int userID,
+                                             @RequestBody List<IncomeBookingDTO> bookingDtos) {
+        log.info("Server : POST to /bookings/bulk from userID {} with {} bookings", userID, bookingDtos.size());
+        return bookingService.addBookings(userID, bookingDtos);
+    }
+
     @PatchMapping("/{bookingID}")
     public OutcomeBookingDTO approveBooking(@RequestHeader("X-Sharer-User-Id") int userID,
                                             @PathVariable int bookingID,
@@ -39,6 +55,14 @@ public class BookingController {
         return bookingService.changeBookingStatus(userID, bookingID, approved);
     }
 
+    @PatchMapping("/bulk")
+    public List<BookingStatusChangeResult> approveBookings(@RequestHeader("X-Sharer-User-Id") int userID,
+                                                           @RequestParam boolean approved,
+                                                           @RequestBody List<Integer> bookingIDs) {
+        log.info("Server : PATCH to /bookings/bulk from userID {} with approved = {} for {} bookings", userID, approved, bookingIDs.size());
+        return bookingService.changeBookingsStatus(userID, bookingIDs, approved);
+    }
+
     @GetMapping("/{bookingID}")
     public OutcomeBookingDTO findBookingByID(@RequestHeader("X-Sharer-User-Id") int userID,
                                              @PathVariable int bookingID) {
@@ -47,20 +71,63 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<OutcomeBookingDTO> findBookingsOfUserInState(@RequestHeader("X-Sharer-User-Id") int userID,
-                                                             @RequestParam(defaultValue = "ALL") String state,
-                                                             @RequestParam(defaultValue = "0") int from,
-                                                             @RequestParam(defaultValue = "5") int size) {
+    public ResponseEntity<List<OutcomeBookingDTO>> findBookingsOfUserInState(@RequestHeader("X-Sharer-User-Id") int userID,
+                                                                             @RequestParam(defaultValue = "ALL") String state,
+                                                                             @RequestParam(defaultValue = "0") int from,
+                                                                             @RequestParam(defaultValue = "5") int size,
+                                                                             @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            if (!BookingStateRequest.ALL.name().equalsIgnoreCase(state)) {
+                throw new CursorValidationException("Cursor pagination supported only for state ALL");
+            }
+            log.info("Server : GET to /bookings from userID {} with cursor {} , size {}", userID, cursor, size);
+            return withNextCursor(bookingService.getBookingsOfUserAfterCursor(userID, PageCursor.decode(cursor), size), size);
+        }
         log.info("Server : GET to /bookings from userID {} with state {} , from {} , size {}", userID, state, from, size);
-        return bookingService.getBookingsOfUserByState(userID, state, from, size);
+        List<OutcomeBookingDTO> bookings = bookingService.getBookingsOfUserByState(userID, state, from, size);
+        if (!BookingStateRequest.ALL.name().equalsIgnoreCase(state)) {
+            return ResponseEntity.ok(bookings);
+        }
+        return withNextCursor(bookings, size);
     }
 
     @GetMapping("/owner")
-    public List<OutcomeBookingDTO> findBookingsOfItemOwnerByState(@RequestHeader("X-Sharer-User-Id") int userID,
-                                                                  @RequestParam(defaultValue = "ALL") String state,
-                                                                  @RequestParam(defaultValue = "0") int from,
-                                                                  @RequestParam(defaultValue = "5") int size) {
+    public ResponseEntity<List<OutcomeBookingDTO>> findBookingsOfItemOwnerByState(@RequestHeader("X-Sharer-User-Id") int userID,
+                                                                                  @RequestParam(defaultValue = "ALL") String state,
+                                                                                  @RequestParam(defaultValue = "0") int from,
+                                                                                  @RequestParam(defaultValue = "5") int size,
+                                                                                  @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            if (!BookingStateRequest.ALL.name().equalsIgnoreCase(state)) {
+                throw new CursorValidationException("Cursor pagination supported only for state ALL");
+            }
+            log.info("Server : GET to /bookings/owner from userID {} with cursor {} , size {}", userID, cursor, size);
+            return withNextCursor(bookingService.getBookingsOfUserItemsAfterCursor(userID, PageCursor.decode(cursor), size), size);
+        }
         log.info("Server : GET to /bookings/owner from userID {} with state {} , from {} , size {}", userID, state, from, size);
-        return bookingService.getBookingsOfUserItemsByState(userID, state, from, size);
+        List<OutcomeBookingDTO> bookings = bookingService.getBookingsOfUserItemsByState(userID, state, from, size);
+        if (!BookingStateRequest.ALL.name().equalsIgnoreCase(state)) {
+            return ResponseEntity.ok(bookings);
+        }
+        return withNextCursor(bookings, size);
+    }
+
+    @GetMapping("/items/{itemID}/availability")
+    public List<AvailabilitySlot> findItemAvailability(@RequestHeader("X-Sharer-User-Id") int userID,
+                                                       @PathVariable int itemID,
+                                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+                                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+        log.info("Server : GET to /bookings/items/{}/availability from userID {} with start {} , end {}", itemID, userID, start, end);
+        return bookingService.getItemAvailability(userID, itemID, start, end);
+    }
+
+    private ResponseEntity<List<OutcomeBookingDTO>> withNextCursor(List<OutcomeBookingDTO> bookings, int size) {
+        if (bookings.size() < size) {
+            return ResponseEntity.ok(bookings);
+        }
+        OutcomeBookingDTO last = bookings.get(bookings.size() - 1);
+        return ResponseEntity.ok()
+                .header(PageCursor.NEXT_CURSOR_HEADER, PageCursor.of(last.getStart(), last.getId()).encode())
+                .body(bookings);
     }
 }
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BookingStatusChangeResult {
+    private int bookingId;
+    private OutcomeBookingDTO booking;
+    private String error;
+}
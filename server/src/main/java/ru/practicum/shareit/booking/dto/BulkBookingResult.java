@@ -0,0 +1,11 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BulkBookingResult {
+    private OutcomeBookingDTO booking;
+    private String error;
+}
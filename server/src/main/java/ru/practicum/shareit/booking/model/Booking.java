@@ -20,6 +20,8 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.PrePersist;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import java.time.LocalDateTime;
 
@@ -33,7 +35,8 @@ import java.time.LocalDateTime;
 @Builder
 public class Booking {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private int id;
 
     @Column(name = "start_date")
@@ -52,6 +55,14 @@ public class Booking {
     @ToString.Exclude
     private User booker;
 
+    @Column(name = "item_owner_id")
+    private int itemOwnerId;
+
     @Enumerated(EnumType.STRING)
     private BookingStatus status;
+
+    @PrePersist
+    private void fillItemOwner() {
+        itemOwnerId = item.getOwner().getId();
+    }
 }
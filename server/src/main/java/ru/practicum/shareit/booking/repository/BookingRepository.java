@@ -2,91 +2,106 @@ package ru.practicum.shareit.booking.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.dto.BookingStatus;
 import ru.practicum.shareit.booking.model.Booking;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Integer> {
 
-    @Query(value = "select * from bookings where booker_id = :id order by start_date desc", nativeQuery = true)
+    @Query("select b from Booking as b join fetch b.item join fetch b.booker where b.booker.id = :id " +
+            "order by b.start desc, b.id desc")
     List<Booking> findBookingsOfUserInStateALL(@Param("id") int userID, Pageable pageable);
 
-    @Query(value = "select * from bookings where booker_id = :id and (status = 'REJECTED' or status = 'CANCELED') " +
-            "order by start_date desc", nativeQuery = true)
+    @Query("select b from Booking as b join fetch b.item join fetch b.booker where b.booker.id = :id " +
+            "and (b.start < :start or (b.start = :start and b.id < :lastId)) order by b.start desc, b.id desc")
+    List<Booking> findBookingsOfUserInStateALLAfter(@Param("id") int userID,
+                                                    @Param("start") LocalDateTime start,
+                                                    @Param("lastId") int lastID,
+                                                    Pageable pageable);
+
+    @Query("select b from Booking as b join fetch b.item join fetch b.booker where b.booker.id = :id " +
+            "and (b.status = 'REJECTED' or b.status = 'CANCELED') order by b.start desc")
     List<Booking> findBookingsOfUserInStateREJECTED(@Param("id") int userID, Pageable pageable);
 
-    @Query(value = "select * from bookings where booker_id = :id and end_date < :moment " +
-            "order by start_date desc", nativeQuery = true)
+    @Query("select b from Booking as b join fetch b.item join fetch b.booker where b.booker.id = :id " +
+            "and b.end < :moment order by b.start desc")
     List<Booking> findBookingsOfUserInStatePAST(@Param("id") int userID,
                                                 @Param("moment") LocalDateTime dateTime,
                                                 Pageable pageable);
 
-    @Query(value = "select * from bookings where booker_id = :id and start_date > :moment " +
-            "order by start_date desc", nativeQuery = true)
+    @Query("select b from Booking as b join fetch b.item join fetch b.booker where b.booker.id = :id " +
+            "and b.start > :moment order by b.start desc")
     List<Booking> findBookingsOfUserInStateFUTURE(@Param("id") int userID,
                                                   @Param("moment") LocalDateTime dateTime,
                                                   Pageable pageable);
 
-    @Query(value = "select * from bookings where booker_id = :id " +
-            "and (start_date < :moment and end_date > :moment) " +
-            "order by id", nativeQuery = true)
+    @Query("select b from Booking as b join fetch b.item join fetch b.booker where b.booker.id = :id " +
+            "and (b.start < :moment and b.end > :moment) order by b.id")
     List<Booking> findBookingsOfUserInStateCURRENT(@Param("id") int userID,
                                                    @Param("moment") LocalDateTime dateTime,
                                                    Pageable pageable);
 
-    @Query(value = "select * from bookings where booker_id = :id and status = 'WAITING' " +
-            "and (start_date < :moment or end_date > :moment) " +
-            "order by start_date desc", nativeQuery = true)
+    @Query("select b from Booking as b join fetch b.item join fetch b.booker where b.booker.id = :id " +
+            "and b.status = 'WAITING' and (b.start < :moment or b.end > :moment) order by b.start desc")
     List<Booking> findBookingsOfUserInStateWAITING(@Param("id") int userID,
                                                    @Param("moment") LocalDateTime dateTime,
                                                    Pageable pageable);
 
-    @Query("select b from Booking as b join b.item as i where i.owner.id = :id order by b.start desc")
+    @Query("select b from Booking as b join fetch b.item join fetch b.booker where b.itemOwnerId = :id " +
+            "order by b.start desc, b.id desc")
     List<Booking> findBookingsOfItemOwnerInStateALL(@Param("id") int userID, Pageable pageable);
 
-    @Query("select b from Booking as b join b.item as i where i.owner.id = :id " +
+    @Query("select b from Booking as b join fetch b.item join fetch b.booker where b.itemOwnerId = :id " +
+            "and (b.start < :start or (b.start = :start and b.id < :lastId)) order by b.start desc, b.id desc")
+    List<Booking> findBookingsOfItemOwnerInStateALLAfter(@Param("id") int userID,
+                                                         @Param("start") LocalDateTime start,
+                                                         @Param("lastId") int lastID,
+                                                         Pageable pageable);
+
+    @Query("select b from Booking as b join fetch b.item join fetch b.booker where b.itemOwnerId = :id " +
             "and (b.start < :moment and b.end > :moment) order by b.id")
     List<Booking> findBookingsOfItemOwnerInStateCURRENT(@Param("id") int userID,
                                                         @Param("moment") LocalDateTime dateTime,
                                                         Pageable pageable);
 
-    @Query("select b from Booking as b join b.item as i where i.owner.id = :id and b.end < :moment " +
-            "order by b.start desc")
+    @Query("select b from Booking as b join fetch b.item join fetch b.booker where b.itemOwnerId = :id " +
+            "and b.end < :moment order by b.start desc")
     List<Booking> findBookingsOfItemOwnerInStatePAST(@Param("id") int userID,
                                                      @Param("moment") LocalDateTime dateTime,
                                                      Pageable pageable);
 
-    @Query("select b from Booking as b join b.item as i where i.owner.id = :id and b.start > :moment " +
-            "order by b.start desc")
+    @Query("select b from Booking as b join fetch b.item join fetch b.booker where b.itemOwnerId = :id " +
+            "and b.start > :moment order by b.start desc")
     List<Booking> findBookingsOfItemOwnerInStateFUTURE(@Param("id") int userID,
                                                        @Param("moment") LocalDateTime dateTime,
                                                        Pageable pageable);
 
-    @Query("select b from Booking as b join b.item as i where i.owner.id = :id " +
+    @Query("select b from Booking as b join fetch b.item join fetch b.booker where b.itemOwnerId = :id " +
             "and (b.start < :moment or b.end > :moment) and b.status = 'WAITING' order by b.start desc")
     List<Booking> findBookingsOfItemOwnerInStateWAITING(@Param("id") int userID,
                                                         @Param("moment") LocalDateTime dateTime,
                                                         Pageable pageable);
 
-    @Query("select b from Booking as b join b.item as i where i.owner.id = :id " +
-            "and (b.status = 'CANCELED' or b.status = 'REJECTED') order by b.start desc ")
+    @Query("select b from Booking as b join fetch b.item join fetch b.booker where b.itemOwnerId = :id " +
+            "and (b.status = 'CANCELED' or b.status = 'REJECTED') order by b.start desc")
     List<Booking> findBookingsOfItemOwnerInStateREJECTED(@Param("id") int userID, Pageable pageable);
 
-    @Query(value = "select * from bookings where item_id = :id and status = 'APPROVED' " +
-            "and start_date < :moment order by start_date desc limit 1", nativeQuery = true)
-    Optional<Booking> findPreviousItemBooking(@Param("id") int itemID,
-                                              @Param("moment") LocalDateTime dateTime);
-
-    @Query(value = "select * from bookings where item_id = :id and status = 'APPROVED' " +
-            "and start_date > :moment order by start_date limit 1", nativeQuery = true)
-    Optional<Booking> findNextItemBooking(@Param("id") int itemID,
-                                          @Param("moment") LocalDateTime dateTime);
+    @Query(value = "select id, start_date, end_date, item_id, booker_id, item_owner_id, status from (" +
+            "select b.*, row_number() over (partition by b.item_id, b.start_date < :moment " +
+            "order by case when b.start_date < :moment then b.start_date end desc, b.start_date) as rn " +
+            "from bookings as b where b.item_id in (:ids) and b.status = 'APPROVED' " +
+            "and b.start_date <> :moment) as ranked where ranked.rn = 1", nativeQuery = true)
+    List<Booking> findPreviousAndNextBookingsOfItems(@Param("ids") List<Integer> itemIDs,
+                                                     @Param("moment") LocalDateTime dateTime);
 
     @Query(value = "select * from bookings where booker_id = :id and status = 'APPROVED' limit 1", nativeQuery = true)
     Optional<Booking> findOneApprovedBookingOfUser(@Param("id") int userID);
@@ -95,4 +110,21 @@ public interface BookingRepository extends JpaRepository<Booking, Integer> {
             "and status = 'APPROVED' limit 1", nativeQuery = true)
     Optional<Booking> findOneApprovedBookingOfItemInPast(@Param("id") int itemID,
                                                          @Param("moment") LocalDateTime dateTime);
+
+    @Query("select case when count(b) > 0 then true else false end from Booking as b " +
+            "where b.item.id = :id and b.status = 'APPROVED' and b.start < :end and b.end > :start " +
+            "and b.id <> :bookingId")
+    boolean existsApprovedBookingOfItemInPeriod(@Param("id") int itemID,
+                                                @Param("start") LocalDateTime start,
+                                                @Param("end") LocalDateTime end,
+                                                @Param("bookingId") int excludedBookingID);
+
+    @Query("select b from Booking as b where b.item.id = :id and b.status = 'APPROVED'")
+    List<Booking> findApprovedBookingsOfItem(@Param("id") int itemID);
+
+    @Query("select b from Booking as b where b.item.id in :ids and b.status = 'APPROVED'")
+    List<Booking> findApprovedBookingsOfItems(@Param("ids") Collection<Integer> itemIDs);
+
+    @Query("select b from Booking as b join fetch b.item join fetch b.booker where b.id in :ids")
+    List<Booking> findBookingsWithItemAndBookerByIDs(@Param("ids") Collection<Integer> bookingIDs);
 }
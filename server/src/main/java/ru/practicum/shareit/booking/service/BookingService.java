@@ -1,18 +1,33 @@
 package ru.practicum.shareit.booking.service;
 
+import ru.practicum.shareit.PageCursor;
+import ru.practicum.shareit.booking.dto.AvailabilitySlot;
+import ru.practicum.shareit.booking.dto.BookingStatusChangeResult;
+import ru.practicum.shareit.booking.dto.BulkBookingResult;
 import ru.practicum.shareit.booking.dto.IncomeBookingDTO;
 import ru.practicum.shareit.booking.dto.OutcomeBookingDTO;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BookingService {
     OutcomeBookingDTO addBooking(int userID, IncomeBookingDTO bookingDto);
 
+    List<BulkBookingResult> addBookings(int userID, List<IncomeBookingDTO> bookingDtos);
+
     OutcomeBookingDTO changeBookingStatus(int userID, int bookingID, boolean approve);
 
+    List<BookingStatusChangeResult> changeBookingsStatus(int userID, List<Integer> bookingIDs, boolean approve);
+
     OutcomeBookingDTO getBookingByID(int userID, int bookingID);
 
     List<OutcomeBookingDTO> getBookingsOfUserByState(int userID, String status, int from, int size);
 
     List<OutcomeBookingDTO> getBookingsOfUserItemsByState(int userID, String status, int from, int size);
+
+    List<OutcomeBookingDTO> getBookingsOfUserAfterCursor(int userID, PageCursor cursor, int size);
+
+    List<OutcomeBookingDTO> getBookingsOfUserItemsAfterCursor(int userID, PageCursor cursor, int size);
+
+    List<AvailabilitySlot> getItemAvailability(int userID, int itemID, LocalDateTime start, LocalDateTime end);
 }
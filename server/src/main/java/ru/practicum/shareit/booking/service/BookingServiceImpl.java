@@ -4,28 +4,43 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.PageCursor;
 import ru.practicum.shareit.Paginator;
+import ru.practicum.shareit.booking.dto.AvailabilitySlot;
 import ru.practicum.shareit.booking.dto.BookingStateRequest;
 import ru.practicum.shareit.booking.dto.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingStatusChangeResult;
+import ru.practicum.shareit.booking.dto.BulkBookingResult;
 import ru.practicum.shareit.booking.dto.IncomeBookingDTO;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.exceptions.IncorrectOwnerInBookingException;
 import ru.practicum.shareit.exceptions.ItemNotFoundException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemSummaryUpdater;
+import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 import ru.practicum.shareit.booking.BookingMapper;
 import ru.practicum.shareit.booking.dto.OutcomeBookingDTO;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exceptions.BookingNotFoundException;
+import ru.practicum.shareit.exceptions.BookingOverlapException;
 import ru.practicum.shareit.exceptions.BookingValidationException;
 import ru.practicum.shareit.exceptions.IncorrectBookingApproverException;
 import ru.practicum.shareit.exceptions.UserNotFoundException;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,70 +51,149 @@ public class BookingServiceImpl implements BookingService {
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
     private final BookingRepository bookingRepository;
+    private final ItemBookingIndex bookingIndex;
+    private final ItemSummaryUpdater summaryUpdater;
 
     @Override
     @Transactional
     public OutcomeBookingDTO addBooking(int userID, IncomeBookingDTO bookingDto) {
-        if (!userRepository.existsById(userID)) {
-            throw new UserNotFoundException("User with ID " + userID + " not present");
-        }
-        if (!itemRepository.existsById(bookingDto.getItemId())) {
-            throw new ItemNotFoundException("Item with ID " + bookingDto.getItemId() + " not present");
-        }
-        Item itemForBooking = itemRepository.findById(bookingDto.getItemId()).get();
-        if (!itemForBooking.getAvailable()) {
-            throw new BookingValidationException("Item with ID " + itemForBooking.getId() + " unavailable for booking");
-        }
-        Booking newBooking = BookingMapper.incomeBookingDtoToBooking(bookingDto,
-                userRepository.findById(userID).get(),
-                itemForBooking);
-        if (newBooking.getBooker().getId() == newBooking.getItem().getOwner().getId()) {
-            throw new IncorrectOwnerInBookingException("Owner of item cannot book own item");
-        }
+        User booker = userRepository.findById(userID)
+                .orElseThrow(() -> new UserNotFoundException("User with ID " + userID + " not present"));
+        Item itemForBooking = itemRepository.findById(bookingDto.getItemId())
+                .orElseThrow(() -> new ItemNotFoundException("Item with ID " + bookingDto.getItemId() + " not present"));
+        Booking newBooking = prepareBooking(booker, itemForBooking, bookingDto);
         log.info("Add booking from user with ID {} for item with ID {}", userID, itemForBooking.getId());
         bookingRepository.save(newBooking);
         return BookingMapper.bookingToOutcomeBookingDTO(newBooking);
     }
 
+    @Override
+    @Transactional
+    public List<BulkBookingResult> addBookings(int userID, List<IncomeBookingDTO> bookingDtos) {
+        User booker = userRepository.findById(userID)
+                .orElseThrow(() -> new UserNotFoundException("User with ID " + userID + " not present"));
+        Set<Integer> itemIDs = bookingDtos.stream()
+                .map(IncomeBookingDTO::getItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Integer, Item> items = itemRepository.findAllById(itemIDs).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        List<Booking> prepared = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (IncomeBookingDTO bookingDto : bookingDtos) {
+            try {
+                Item itemForBooking = items.get(bookingDto.getItemId());
+                if (itemForBooking == null) {
+                    throw new ItemNotFoundException("Item with ID " + bookingDto.getItemId() + " not present");
+                }
+                prepared.add(prepareBooking(booker, itemForBooking, bookingDto));
+                errors.add(null);
+            } catch (ItemNotFoundException | BookingValidationException | IncorrectOwnerInBookingException
+                     | BookingOverlapException e) {
+                prepared.add(null);
+                errors.add(e.getMessage());
+            }
+        }
+        List<Booking> newBookings = prepared.stream().filter(Objects::nonNull).collect(Collectors.toList());
+        log.info("Add {} of {} bookings from user with ID {}", newBookings.size(), bookingDtos.size(), userID);
+        bookingRepository.saveAll(newBookings);
+        List<BulkBookingResult> results = new ArrayList<>();
+        for (int i = 0; i < prepared.size(); i++) {
+            Booking booking = prepared.get(i);
+            if (booking == null) {
+                results.add(BulkBookingResult.builder().error(errors.get(i)).build());
+            } else {
+                results.add(BulkBookingResult.builder().booking(BookingMapper.bookingToOutcomeBookingDTO(booking)).build());
+            }
+        }
+        return results;
+    }
+
     @Override
     @Transactional
     public OutcomeBookingDTO changeBookingStatus(int userID, int bookingID, boolean approve) {
         if (!userRepository.existsById(userID)) {
             throw new UserNotFoundException("User with ID " + userID + " not present");
         }
-        if (!bookingRepository.existsById(bookingID)) {
-            throw new BookingNotFoundException("Booking with ID " + bookingID + " not present");
-        }
-        Booking booking = bookingRepository.findById(bookingID).get();
-        if (userID != booking.getItem().getOwner().getId()) {
-            throw new IncorrectBookingApproverException("User with ID " + userID + " not owner of booked item");
-        }
-        if (booking.getStatus().equals(BookingStatus.APPROVED)) {
-            throw new BookingValidationException("Booking with ID " + bookingID + " already approved");
-        }
+        itemRepository.findAllOfOwnerBookingsForUpdate(userID, List.of(bookingID));
+        Booking booking = bookingRepository.findById(bookingID)
+                .orElseThrow(() -> new BookingNotFoundException("Booking with ID " + bookingID + " not present"));
+        checkStatusChange(userID, booking);
         if (approve) {
+            checkNoApprovedOverlap(booking);
             booking.setStatus(BookingStatus.APPROVED);
+            bookingIndex.approved(booking);
         } else {
             booking.setStatus(BookingStatus.REJECTED);
         }
         bookingRepository.save(booking);
+        if (approve) {
+            summaryUpdater.bookingsApproved(List.of(booking.getItem().getId()));
+        }
         log.info("Change status of booking with ID {} on {}", bookingID, booking.getStatus().name());
         return BookingMapper.bookingToOutcomeBookingDTO(booking);
     }
 
     @Override
-    public OutcomeBookingDTO getBookingByID(int userID, int bookingID) {
+    @Transactional
+    public List<BookingStatusChangeResult> changeBookingsStatus(int userID, List<Integer> bookingIDs, boolean approve) {
         if (!userRepository.existsById(userID)) {
             throw new UserNotFoundException("User with ID " + userID + " not present");
         }
-        if (!bookingRepository.existsById(bookingID)) {
-            throw new BookingNotFoundException("Booking with ID " + bookingID + " not present");
+        Set<Integer> distinctIDs = new LinkedHashSet<>(bookingIDs);
+        List<Item> lockedItems = itemRepository.findAllOfOwnerBookingsForUpdate(userID, distinctIDs);
+        Map<Integer, Booking> bookings = bookingRepository.findBookingsWithItemAndBookerByIDs(distinctIDs).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+        Map<Integer, List<Booking>> approvedOfItems = approve
+                ? getApprovedBookingsOfItems(lockedItems)
+                : Collections.emptyMap();
+        BookingStatus status = approve ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+        List<Booking> changed = new ArrayList<>();
+        List<BookingStatusChangeResult> results = new ArrayList<>();
+        for (int bookingID : distinctIDs) {
+            try {
+                Booking booking = bookings.get(bookingID);
+                if (booking == null) {
+                    throw new BookingNotFoundException("Booking with ID " + bookingID + " not present");
+                }
+                checkStatusChange(userID, booking);
+                if (approve) {
+                    List<Booking> approved = approvedOfItems.get(booking.getItem().getId());
+                    checkNoOverlap(booking, approved);
+                    approved.add(booking);
+                }
+                booking.setStatus(status);
+                changed.add(booking);
+                results.add(BookingStatusChangeResult.builder()
+                        .bookingId(bookingID)
+                        .booking(BookingMapper.bookingToOutcomeBookingDTO(booking))
+                        .build());
+            } catch (BookingNotFoundException | IncorrectBookingApproverException | BookingValidationException
+                     | BookingOverlapException e) {
+                results.add(BookingStatusChangeResult.builder().bookingId(bookingID).error(e.getMessage()).build());
+            }
+        }
+        if (approve && !changed.isEmpty()) {
+            changed.forEach(bookingIndex::approved);
+            summaryUpdater.bookingsApproved(changed.stream()
+                    .map(booking -> booking.getItem().getId())
+                    .collect(Collectors.toSet()));
         }
-        Booking booking = bookingRepository.findById(bookingID).get();
+        log.info("Change status of {} of {} bookings on {}", changed.size(), distinctIDs.size(), status.name());
+        return results;
+    }
+
+    @Override
+    public OutcomeBookingDTO getBookingByID(int userID, int bookingID) {
+        if (!userRepository.existsById(userID)) {
+            throw new UserNotFoundException("User with ID " + userID + " not present");
+        }
+        Booking booking = bookingRepository.findById(bookingID)
+                .orElseThrow(() -> new BookingNotFoundException("Booking with ID " + bookingID + " not present"));
         if (booking.getBooker().getId() != userID && booking.getItem().getOwner().getId() != userID) {
             throw new IncorrectOwnerInBookingException("User with ID " + userID + " not item or booking owner");
         }
-        log.info("Getting booking with ID {} on request from user with ID {}", booking, userID);
+        log.info("Getting booking with ID {} on request from user with ID {}", bookingID, userID);
         return BookingMapper.bookingToOutcomeBookingDTO(booking);
     }
 
@@ -178,4 +272,103 @@ public class BookingServiceImpl implements BookingService {
                 dtos.size(), userID, state);
         return dtos;
     }
+
+    @Override
+    public List<OutcomeBookingDTO> getBookingsOfUserAfterCursor(int userID, PageCursor cursor, int size) {
+        if (!userRepository.existsById(userID)) {
+            throw new UserNotFoundException("User with ID " + userID + " not present");
+        }
+        List<OutcomeBookingDTO> dtos = bookingRepository.findBookingsOfUserInStateALLAfter(userID,
+                        cursor.getStart(), cursor.getId(), new Paginator(0, size))
+                .stream().map(BookingMapper::bookingToOutcomeBookingDTO)
+                .collect(Collectors.toList());
+        log.info("Get bookingDTO list with size {} of bookings for user with ID {} after booking with ID {}",
+                dtos.size(), userID, cursor.getId());
+        return dtos;
+    }
+
+    @Override
+    public List<OutcomeBookingDTO> getBookingsOfUserItemsAfterCursor(int userID, PageCursor cursor, int size) {
+        if (!userRepository.existsById(userID)) {
+            throw new UserNotFoundException("User with ID " + userID + " not present");
+        }
+        List<OutcomeBookingDTO> dtos = bookingRepository.findBookingsOfItemOwnerInStateALLAfter(userID,
+                        cursor.getStart(), cursor.getId(), new Paginator(0, size))
+                .stream().map(BookingMapper::bookingToOutcomeBookingDTO)
+                .collect(Collectors.toList());
+        log.info("Get bookingDTO list with size {} of bookings for item owner with ID {} after booking with ID {}",
+                dtos.size(), userID, cursor.getId());
+        return dtos;
+    }
+
+    @Override
+    public List<AvailabilitySlot> getItemAvailability(int userID, int itemID, LocalDateTime start, LocalDateTime end) {
+        if (!userRepository.existsById(userID)) {
+            throw new UserNotFoundException("User with ID " + userID + " not present");
+        }
+        if (!start.isBefore(end)) {
+            throw new BookingValidationException("Start of period must be before end");
+        }
+        if (!itemRepository.existsById(itemID)) {
+            throw new ItemNotFoundException("Item with ID " + itemID + " not present");
+        }
+        List<AvailabilitySlot> slots = bookingIndex.findAvailability(itemID, start, end);
+        log.info("Get {} availability slots of item with ID {} from {} to {}", slots.size(), itemID, start, end);
+        return slots;
+    }
+
+    private Booking prepareBooking(User booker, Item itemForBooking, IncomeBookingDTO bookingDto) {
+        if (!itemForBooking.getAvailable()) {
+            throw new BookingValidationException("Item with ID " + itemForBooking.getId() + " unavailable for booking");
+        }
+        Booking newBooking = BookingMapper.incomeBookingDtoToBooking(bookingDto, booker, itemForBooking);
+        if (newBooking.getBooker().getId() == newBooking.getItem().getOwner().getId()) {
+            throw new IncorrectOwnerInBookingException("Owner of item cannot book own item");
+        }
+        if (bookingIndex.hasApprovedOverlap(itemForBooking.getId(), newBooking.getStart(), newBooking.getEnd())
+                && bookingRepository.existsApprovedBookingOfItemInPeriod(itemForBooking.getId(), newBooking.getStart(),
+                newBooking.getEnd(), 0)) {
+            throw new BookingOverlapException("Item with ID " + itemForBooking.getId() + " already booked from "
+                    + newBooking.getStart() + " to " + newBooking.getEnd());
+        }
+        return newBooking;
+    }
+
+    private void checkStatusChange(int userID, Booking booking) {
+        if (userID != booking.getItem().getOwner().getId()) {
+            throw new IncorrectBookingApproverException("User with ID " + userID + " not owner of booked item");
+        }
+        if (booking.getStatus().equals(BookingStatus.APPROVED)) {
+            throw new BookingValidationException("Booking with ID " + booking.getId() + " already approved");
+        }
+    }
+
+    private Map<Integer, List<Booking>> getApprovedBookingsOfItems(List<Item> items) {
+        Map<Integer, List<Booking>> approvedOfItems = new HashMap<>();
+        if (items.isEmpty()) {
+            return approvedOfItems;
+        }
+        items.forEach(item -> approvedOfItems.put(item.getId(), new ArrayList<>()));
+        bookingRepository.findApprovedBookingsOfItems(approvedOfItems.keySet())
+                .forEach(booking -> approvedOfItems.get(booking.getItem().getId()).add(booking));
+        return approvedOfItems;
+    }
+
+    private void checkNoOverlap(Booking booking, List<Booking> approved) {
+        for (Booking other : approved) {
+            if (other.getId() != booking.getId() && other.getStart().isBefore(booking.getEnd())
+                    && other.getEnd().isAfter(booking.getStart())) {
+                throw new BookingOverlapException("Item with ID " + booking.getItem().getId() + " already booked from "
+                        + booking.getStart() + " to " + booking.getEnd());
+            }
+        }
+    }
+
+    private void checkNoApprovedOverlap(Booking booking) {
+        int itemID = booking.getItem().getId();
+        if (bookingRepository.existsApprovedBookingOfItemInPeriod(itemID, booking.getStart(), booking.getEnd(), booking.getId())) {
+            throw new BookingOverlapException("Item with ID " + itemID + " already booked from " + booking.getStart()
+                    + " to " + booking.getEnd());
+        }
+    }
 }
@@ -0,0 +1,185 @@
+package ru.practicum.shareit.booking.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.TransactionCallbacks;
+import ru.practicum.shareit.booking.dto.AvailabilitySlot;
+import ru.practicum.shareit.booking.dto.ShortBooking;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+@Component
+public class ItemBookingIndex {
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate loadTransaction;
+    private final Cache<Integer, ItemBookings> items;
+
+    public ItemBookingIndex(BookingRepository bookingRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${shareit.booking-index.max-items:10000}") long maxItems,
+                            @Value("${shareit.booking-index.expire-after-write:60s}") Duration expireAfterWrite) {
+        this.bookingRepository = bookingRepository;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.items = Caffeine.newBuilder()
+                .maximumSize(maxItems)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    public Optional<ShortBooking> findLast(int itemID, LocalDateTime moment) {
+        return Optional.ofNullable(bookingsOf(itemID).lastBefore(moment)).map(IndexedBooking::toShortBooking);
+    }
+
+    public Optional<ShortBooking> findNext(int itemID, LocalDateTime moment) {
+        return Optional.ofNullable(bookingsOf(itemID).firstAfter(moment)).map(IndexedBooking::toShortBooking);
+    }
+
+    public boolean hasApprovedOverlap(int itemID, LocalDateTime start, LocalDateTime end) {
+        return bookingsOf(itemID).overlaps(start, end);
+    }
+
+    public List<AvailabilitySlot> findAvailability(int itemID, LocalDateTime start, LocalDateTime end) {
+        List<AvailabilitySlot> slots = new ArrayList<>();
+        LocalDateTime freeFrom = start;
+        for (IndexedBooking booking : bookingsOf(itemID).overlapping(start, end)) {
+            LocalDateTime busyFrom = booking.start.isAfter(freeFrom) ? booking.start : freeFrom;
+            LocalDateTime busyTo = booking.end.isBefore(end) ? booking.end : end;
+            if (!busyTo.isAfter(busyFrom)) {
+                continue;
+            }
+            if (busyFrom.isAfter(freeFrom)) {
+                slots.add(slot(freeFrom, busyFrom, true));
+                slots.add(slot(busyFrom, busyTo, false));
+            } else if (slots.isEmpty() || slots.get(slots.size() - 1).isFree()) {
+                slots.add(slot(busyFrom, busyTo, false));
+            } else {
+                slots.get(slots.size() - 1).setEnd(busyTo);
+            }
+            freeFrom = busyTo;
+        }
+        if (freeFrom.isBefore(end)) {
+            slots.add(slot(freeFrom, end, true));
+        }
+        return slots;
+    }
+
+    public void approved(Booking booking) {
+        IndexedBooking indexed = IndexedBooking.of(booking);
+        TransactionCallbacks.runAfterCommit(() -> items.asMap()
+                .computeIfPresent(indexed.itemID, (id, bookings) -> bookings.add(indexed)));
+    }
+
+    public void evictAll() {
+        TransactionCallbacks.runAfterCommit(items::invalidateAll);
+    }
+
+    /**
+     * Loads run in their own read-only transaction, so an entry never holds bookings the caller has not committed
+     * yet. An approval committed while a load is running waits for it in {@code computeIfPresent} and is added on top.
+     */
+    private ItemBookings bookingsOf(int itemID) {
+        return items.get(itemID, id -> new ItemBookings(
+                loadTransaction.execute(status -> bookingRepository.findApprovedBookingsOfItem(id))));
+    }
+
+    private static AvailabilitySlot slot(LocalDateTime start, LocalDateTime end, boolean free) {
+        return AvailabilitySlot.builder()
+                .start(start)
+                .end(end)
+                .free(free)
+                .build();
+    }
+
+    private static class ItemBookings {
+        private final ConcurrentSkipListSet<IndexedBooking> bookings = new ConcurrentSkipListSet<>(
+                Comparator.comparing((IndexedBooking booking) -> booking.start).thenComparingInt(booking -> booking.id));
+
+        private ItemBookings(List<Booking> approved) {
+            approved.forEach(booking -> bookings.add(IndexedBooking.of(booking)));
+        }
+
+        private ItemBookings add(IndexedBooking booking) {
+            bookings.add(booking);
+            return this;
+        }
+
+        private IndexedBooking lastBefore(LocalDateTime moment) {
+            return bookings.lower(IndexedBooking.probe(moment, Integer.MIN_VALUE));
+        }
+
+        private IndexedBooking firstAfter(LocalDateTime moment) {
+            return bookings.higher(IndexedBooking.probe(moment, Integer.MAX_VALUE));
+        }
+
+        private List<IndexedBooking> overlapping(LocalDateTime start, LocalDateTime end) {
+            List<IndexedBooking> found = new ArrayList<>();
+            for (IndexedBooking booking : startingBefore(end)) {
+                if (booking.end.isAfter(start)) {
+                    found.add(booking);
+                }
+            }
+            return found;
+        }
+
+        private boolean overlaps(LocalDateTime start, LocalDateTime end) {
+            for (IndexedBooking booking : startingBefore(end).descendingSet()) {
+                if (booking.end.isAfter(start)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private NavigableSet<IndexedBooking> startingBefore(LocalDateTime end) {
+            return bookings.headSet(IndexedBooking.probe(end, Integer.MIN_VALUE), false);
+        }
+    }
+
+    private static class IndexedBooking {
+        private final int id;
+        private final int itemID;
+        private final int bookerID;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        private IndexedBooking(int id, int itemID, int bookerID, LocalDateTime start, LocalDateTime end) {
+            this.id = id;
+            this.itemID = itemID;
+            this.bookerID = bookerID;
+            this.start = start;
+            this.end = end;
+        }
+
+        private static IndexedBooking of(Booking booking) {
+            return new IndexedBooking(booking.getId(), booking.getItem().getId(), booking.getBooker().getId(),
+                    booking.getStart(), booking.getEnd());
+        }
+
+        private static IndexedBooking probe(LocalDateTime start, int id) {
+            return new IndexedBooking(id, 0, 0, start, start);
+        }
+
+        private ShortBooking toShortBooking() {
+            return ShortBooking.builder()
+                    .id(id)
+                    .bookerId(bookerID)
+                    .build();
+        }
+    }
+}
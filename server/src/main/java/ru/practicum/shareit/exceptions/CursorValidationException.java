@@ -0,0 +1,7 @@
+package ru.practicum.shareit.exceptions;
+
+public class CursorValidationException extends RuntimeException {
+    public CursorValidationException(String message) {
+        super(message);
+    }
+}
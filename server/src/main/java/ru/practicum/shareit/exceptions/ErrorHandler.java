@@ -21,7 +21,7 @@ public class ErrorHandler {
         return Map.of("error", e.getMessage());
     }
 
-    @ExceptionHandler({EmailAlreadyExistException.class})
+    @ExceptionHandler({EmailAlreadyExistException.class, BookingOverlapException.class})
     @ResponseStatus(HttpStatus.CONFLICT)
     public Map<String, String> handleConflictException(final RuntimeException e) {
         log.error(e.getMessage(), e.getStackTrace());
@@ -35,7 +35,7 @@ public class ErrorHandler {
         return Map.of("error", e.getMessage());
     }
 
-    @ExceptionHandler({BookingValidationException.class, UserNotBookedItemException.class})
+    @ExceptionHandler({BookingValidationException.class, UserNotBookedItemException.class, CursorValidationException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Map<String, String> handleValidationException(final RuntimeException e) {
         log.error(e.getMessage(), e.getStackTrace());
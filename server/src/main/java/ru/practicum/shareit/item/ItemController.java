@@ -2,6 +2,7 @@ package ru.practicum.shareit.item;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.shareit.PageCursor;
 import ru.practicum.shareit.item.dto.IncomeCommentDTO;
 import ru.practicum.shareit.item.dto.ItemDTO;
 import ru.practicum.shareit.item.dto.ItemWithBookingsAndCommentsDTO;
@@ -28,28 +30,36 @@ public class ItemController {
 
     @PostMapping
     public ItemDTO create(@RequestHeader("X-Sharer-User-Id") int userID, @RequestBody ItemDTO itemDto) {
-        log.info("Server : POST to /items from userID {} with {}", userID, itemDto.toString());
+        log.info("Server : POST to /items from userID {} with {}", userID, itemDto);
         return itemService.addItem(userID, itemDto);
     }
 
     @PostMapping("/{id}/comment")
     public OutcomeCommentDTO addComment(@RequestHeader("X-Sharer-User-Id") int userID, @PathVariable int id,
                                         @RequestBody IncomeCommentDTO commentDTO) {
-        log.info("Server : POST to /items/{}/comment from userID {} with {}", id, userID, commentDTO.toString());
+        log.info("Server : POST to /items/{}/comment from userID {} with {}", id, userID, commentDTO);
         return itemService.addCommentToItemByUser(id, userID, commentDTO);
     }
 
     @GetMapping
-    public Collection<ItemWithBookingsAndCommentsDTO> findItemsByOwner(@RequestHeader("X-Sharer-User-Id") int userID,
-                                                                       @RequestParam(defaultValue = "0") int from,
-                                                                       @RequestParam(defaultValue = "5") int size) {
-        log.info("Server : GET to /items from userID {} with from {} and size {}", userID, from, size);
-        return itemService.getItemsOfUserByID(userID, from, size);
+    public ResponseEntity<Collection<ItemWithBookingsAndCommentsDTO>> findItemsByOwner(@RequestHeader("X-Sharer-User-Id") int userID,
+                                                                                       @RequestParam(defaultValue = "0") int from,
+                                                                                       @RequestParam(defaultValue = "5") int size,
+                                                                                       @RequestParam(required = false) String cursor) {
+        Collection<ItemWithBookingsAndCommentsDTO> items;
+        if (cursor == null) {
+            log.info("Server : GET to /items from userID {} with from {} and size {}", userID, from, size);
+            items = itemService.getItemsOfUserByID(userID, from, size);
+        } else {
+            log.info("Server : GET to /items from userID {} with cursor {} and size {}", userID, cursor, size);
+            items = itemService.getItemsOfUserAfterCursor(userID, PageCursor.decode(cursor), size);
+        }
+        return withNextCursor(items, size);
     }
 
     @PatchMapping("/{id}")
     public ItemDTO patch(@RequestHeader("X-Sharer-User-Id") int userID, @PathVariable int id, @RequestBody ItemDTO itemDto) {
-        log.info("Server : PATCH to /items/{} from userID {} with {}", id, userID, itemDto.toString());
+        log.info("Server : PATCH to /items/{} from userID {} with {}", id, userID, itemDto);
         return itemService.patchItem(userID, itemDto);
     }
 
@@ -66,4 +76,18 @@ public class ItemController {
         log.info("Server : GET to /items/search with text {} , from {} , size {}", text, from, size);
         return itemService.searchItemsByText(text, from, size);
     }
+
+    private ResponseEntity<Collection<ItemWithBookingsAndCommentsDTO>> withNextCursor(
+            Collection<ItemWithBookingsAndCommentsDTO> items, int size) {
+        if (items.size() < size) {
+            return ResponseEntity.ok(items);
+        }
+        int lastID = 0;
+        for (ItemWithBookingsAndCommentsDTO item : items) {
+            lastID = item.getId();
+        }
+        return ResponseEntity.ok()
+                .header(PageCursor.NEXT_CURSOR_HEADER, PageCursor.of(lastID).encode())
+                .body(items);
+    }
 }
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "item_summaries", schema = "public")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemSummary {
+    @Id
+    @Column(name = "item_id")
+    private int itemId;
+
+    @Column(name = "last_booking_id")
+    private Integer lastBookingId;
+
+    @Column(name = "last_booker_id")
+    private Integer lastBookerId;
+
+    @Column(name = "last_start")
+    private LocalDateTime lastStart;
+
+    @Column(name = "next_booking_id")
+    private Integer nextBookingId;
+
+    @Column(name = "next_booker_id")
+    private Integer nextBookerId;
+
+    @Column(name = "next_start")
+    private LocalDateTime nextStart;
+
+    @Column(name = "comment_count")
+    private int commentCount;
+
+    @Column(name = "bookings_loaded")
+    private boolean bookingsLoaded;
+
+    @Column(name = "version")
+    private long version;
+
+    public boolean isStale(LocalDateTime moment) {
+        return !bookingsLoaded || (nextStart != null && !nextStart.isAfter(moment));
+    }
+}
@@ -12,4 +12,7 @@ import java.util.List;
 public interface CommentRepository extends JpaRepository<Comment, Integer> {
     @Query(value = "select * from comments where item_id = :id order by created desc", nativeQuery = true)
     List<Comment> findAllByItemID(@Param("id") int itemID);
+
+    @Query("select c from Comment as c join fetch c.author where c.item.id in :ids order by c.created desc")
+    List<Comment> findAllByItemIDs(@Param("ids") List<Integer> itemIDs);
 }
@@ -2,23 +2,45 @@ package ru.practicum.shareit.item.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.item.model.Item;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Integer> {
 
     @Query("select it from Item as it where (lower(it.name) like concat('%', :text, '%') " +
-            "or lower(it.description) like concat('%', :text, '%')) and it.available = true")
+            "or lower(it.description) like concat('%', :text, '%')) and it.available = true " +
+            "order by case when lower(it.name) like concat(:text, '%') then 0 " +
+            "when lower(it.name) like concat('%', :text, '%') then 1 else 2 end, it.id")
     List<Item> findItemByNameAndDesc(@Param("text") String text, Pageable pageable);
 
     @Query(value = "select * from items as i where i.owner_id = :id order by id", nativeQuery = true)
     List<Item> findAllByUserId(@Param("id") int id, Pageable pageable);
 
+    @Query(value = "select * from items as i where i.owner_id = :id and i.id > :lastId order by id", nativeQuery = true)
+    List<Item> findAllByUserIdAfter(@Param("id") int id, @Param("lastId") int lastID, Pageable pageable);
+
     @Query(value = "select * from items as i where i.request_id = :id", nativeQuery = true)
     List<Item> findAllByRequestID(@Param("id") int id);
+
+    @Query(value = "select * from items as i where i.request_id in (:ids) order by i.id", nativeQuery = true)
+    List<Item> findAllByRequestIDs(@Param("ids") List<Integer> ids);
+
+    @Query("select it from Item as it left join fetch it.request where it.available = true and it.id > :id order by it.id")
+    List<Item> findAvailableItemsAfterID(@Param("id") int id, Pageable pageable);
+
+    @Query("select it.id from Item as it left join it.request as r where it.owner.id = :id or r.requestor.id = :id")
+    List<Integer> findIDsOfItemsDeletedWithUser(@Param("id") int userID);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select it from Item as it where it.owner.id = :owner " +
+            "and it.id in (select b.item.id from Booking as b where b.id in :ids) order by it.id")
+    List<Item> findAllOfOwnerBookingsForUpdate(@Param("owner") int ownerID, @Param("ids") Collection<Integer> bookingIDs);
 }
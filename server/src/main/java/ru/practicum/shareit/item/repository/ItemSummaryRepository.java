@@ -0,0 +1,33 @@
+package ru.practicum.shareit.item.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.model.ItemSummary;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ItemSummaryRepository extends JpaRepository<ItemSummary, Integer> {
+    @Modifying
+    @Query("update ItemSummary as s set s.commentCount = s.commentCount + 1 where s.itemId = :id")
+    void incrementCommentCount(@Param("id") int itemID);
+
+    @Modifying
+    @Query("update ItemSummary as s set s.lastBookingId = :lastID, s.lastBookerId = :lastBookerID, " +
+            "s.lastStart = :lastStart, s.nextBookingId = :nextID, s.nextBookerId = :nextBookerID, " +
+            "s.nextStart = :nextStart, s.bookingsLoaded = true, s.version = s.version + 1 " +
+            "where s.itemId = :id and s.version = :version")
+    int storeBookingsOfVersion(@Param("id") int itemID, @Param("version") long version,
+                               @Param("lastID") Integer lastBookingID, @Param("lastBookerID") Integer lastBookerID,
+                               @Param("lastStart") LocalDateTime lastStart,
+                               @Param("nextID") Integer nextBookingID, @Param("nextBookerID") Integer nextBookerID,
+                               @Param("nextStart") LocalDateTime nextStart);
+
+    @Modifying
+    @Query("update ItemSummary as s set s.bookingsLoaded = false, s.version = s.version + 1 " +
+            "where s.itemId in (select b.item.id from Booking as b where b.booker.id = :id)")
+    void invalidateBookingsOfBooker(@Param("id") int bookerID);
+}
@@ -0,0 +1,298 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.Paginator;
+import ru.practicum.shareit.TransactionCallbacks;
+import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.dto.ItemDTO;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class ItemSearchIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final ItemRepository itemRepository;
+    private final boolean enabled;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Integer, IndexedItem> items = new HashMap<>();
+    private final PostingList allItems = new PostingList();
+
+    public ItemSearchIndex(ItemRepository itemRepository,
+                           @Value("${shareit.search.in-memory-index:true}") boolean enabled) {
+        this.itemRepository = itemRepository;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void build() {
+        if (!enabled) {
+            log.info("Search index disabled, items are searched in the database");
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            items.clear();
+            allItems.clear();
+            int lastID = 0;
+            List<Item> batch;
+            do {
+                batch = itemRepository.findAvailableItemsAfterID(lastID, PageRequest.of(0, BUILD_BATCH_SIZE));
+                for (Item item : batch) {
+                    add(IndexedItem.of(item));
+                    lastID = item.getId();
+                }
+            } while (batch.size() == BUILD_BATCH_SIZE);
+            log.info("Search index built with {} items and {} grams", items.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<ItemDTO> search(String text, int from, int size) {
+        String query = text.toLowerCase();
+        if (!enabled) {
+            return itemRepository.findItemByNameAndDesc(query, new Paginator(from, size)).stream()
+                    .map(ItemMapper::itemToItemDTO)
+                    .collect(Collectors.toList());
+        }
+        List<IndexedItem> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int id : findCandidates(query)) {
+                IndexedItem item = items.get(id);
+                if (item.matches(query)) {
+                    found.add(item);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        found.sort(Comparator.comparingInt((IndexedItem item) -> item.rank(query)).thenComparingInt(item -> item.id));
+        return found.stream()
+                .skip((long) (from / size) * size)
+                .limit(size)
+                .map(IndexedItem::toItemDTO)
+                .collect(Collectors.toList());
+    }
+
+    public void index(Item item) {
+        if (!enabled) {
+            return;
+        }
+        IndexedItem indexed = IndexedItem.of(item);
+        TransactionCallbacks.runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(indexed.id);
+                if (indexed.available) {
+                    add(indexed);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void evictItemsDeletedWithUser(int userID) {
+        if (!enabled) {
+            return;
+        }
+        List<Integer> itemIDs = itemRepository.findIDsOfItemsDeletedWithUser(userID);
+        TransactionCallbacks.runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                itemIDs.forEach(this::remove);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private int[] findCandidates(String query) {
+        if (query.length() < GRAM_LENGTH) {
+            return allItems.toArray();
+        }
+        List<PostingList> lists = new ArrayList<>();
+        for (String gram : gramsOf(query)) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        int[] candidates = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = lists.get(i).intersect(candidates);
+        }
+        return candidates;
+    }
+
+    private void add(IndexedItem item) {
+        items.put(item.id, item);
+        allItems.add(item.id);
+        for (String gram : item.grams()) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(item.id);
+        }
+    }
+
+    private void remove(int itemID) {
+        IndexedItem item = items.remove(itemID);
+        if (item == null) {
+            return;
+        }
+        allItems.remove(itemID);
+        for (String gram : item.grams()) {
+            PostingList list = postings.get(gram);
+            list.remove(itemID);
+            if (list.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> gramsOf(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static class IndexedItem {
+        private final int id;
+        private final String name;
+        private final String description;
+        private final Boolean available;
+        private final Integer requestId;
+        private final String lowerName;
+        private final String lowerDescription;
+
+        private IndexedItem(int id, String name, String description, Boolean available, Integer requestId) {
+            this.id = id;
+            this.name = name;
+            this.description = description;
+            this.available = available;
+            this.requestId = requestId;
+            this.lowerName = name.toLowerCase();
+            this.lowerDescription = description.toLowerCase();
+        }
+
+        private static IndexedItem of(Item item) {
+            return new IndexedItem(item.getId(), item.getName(), item.getDescription(),
+                    Boolean.TRUE.equals(item.getAvailable()),
+                    item.getRequest() == null ? 0 : item.getRequest().getId());
+        }
+
+        private Set<String> grams() {
+            Set<String> grams = gramsOf(lowerName);
+            grams.addAll(gramsOf(lowerDescription));
+            return grams;
+        }
+
+        private boolean matches(String query) {
+            return lowerName.contains(query) || lowerDescription.contains(query);
+        }
+
+        private int rank(String query) {
+            if (lowerName.startsWith(query)) {
+                return 0;
+            }
+            if (lowerName.contains(query)) {
+                return 1;
+            }
+            return 2;
+        }
+
+        private ItemDTO toItemDTO() {
+            return ItemDTO.builder()
+                    .id(id)
+                    .name(name)
+                    .description(description)
+                    .available(available)
+                    .requestId(requestId)
+                    .build();
+        }
+    }
+
+    private static class PostingList {
+        private int[] ids = new int[4];
+        private int size;
+
+        private int size() {
+            return size;
+        }
+
+        private void add(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+
+        private void remove(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+        }
+
+        private void clear() {
+            ids = new int[4];
+            size = 0;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        private int[] intersect(int[] sorted) {
+            int[] result = new int[Math.min(size, sorted.length)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size && j < sorted.length) {
+                if (ids[i] < sorted[j]) {
+                    i++;
+                } else if (ids[i] > sorted[j]) {
+                    j++;
+                } else {
+                    result[count++] = ids[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+    }
+}
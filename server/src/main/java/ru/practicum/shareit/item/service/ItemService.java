@@ -1,5 +1,6 @@
 package ru.practicum.shareit.item.service;
 
+import ru.practicum.shareit.PageCursor;
 import ru.practicum.shareit.item.dto.IncomeCommentDTO;
 import ru.practicum.shareit.item.dto.ItemDTO;
 import ru.practicum.shareit.item.dto.ItemWithBookingsAndCommentsDTO;
@@ -16,6 +17,8 @@ public interface ItemService {
 
     Collection<ItemWithBookingsAndCommentsDTO> getItemsOfUserByID(int userID, int from, int size);
 
+    Collection<ItemWithBookingsAndCommentsDTO> getItemsOfUserAfterCursor(int userID, PageCursor cursor, int size);
+
     Collection<ItemDTO> searchItemsByText(String text, int from, int size);
 
     OutcomeCommentDTO addCommentToItemByUser(int itemID, int userID, IncomeCommentDTO dto);
@@ -4,8 +4,11 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.PageCursor;
 import ru.practicum.shareit.Paginator;
+import ru.practicum.shareit.booking.dto.ShortBooking;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.service.ItemBookingIndex;
 import ru.practicum.shareit.exceptions.ItemNotFoundException;
 import ru.practicum.shareit.exceptions.ItemRequestNotFoundException;
 import ru.practicum.shareit.exceptions.UserNotBookedItemException;
@@ -16,7 +19,11 @@ import ru.practicum.shareit.item.dto.ItemWithBookingsAndCommentsDTO;
 import ru.practicum.shareit.item.dto.OutcomeCommentDTO;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSummary;
 import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemSummaryRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 import ru.practicum.shareit.booking.BookingMapper;
 import ru.practicum.shareit.booking.repository.BookingRepository;
@@ -31,8 +38,11 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -45,25 +55,27 @@ public class ItemServiceImpl implements ItemService {
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final ItemRequestRepository requestRepository;
+    private final ItemSearchIndex searchIndex;
+    private final ItemBookingIndex bookingIndex;
+    private final ItemSummaryRepository summaryRepository;
+    private final ItemSummaryUpdater summaryUpdater;
 
     @Override
     @Transactional
     public ItemDTO addItem(int userID, ItemDTO itemDto) {
-        if (!userRepository.existsById(userID)) {
-            throw new UserNotFoundException("User with ID " + userID + " not present");
-        }
+        User owner = userRepository.findById(userID)
+                .orElseThrow(() -> new UserNotFoundException("User with ID " + userID + " not present"));
         Item newItem;
         if (itemDto.getRequestId() != null) {
-            if (!requestRepository.existsById(itemDto.getRequestId())) {
-                throw new ItemRequestNotFoundException("Item request with ID " + itemDto.getRequestId() + " not presented");
-            }
-            newItem = ItemMapper.itemDtoToItem(itemDto,
-                    userRepository.findById(userID).get(),
-                    requestRepository.findById(itemDto.getRequestId()).get());
+            ItemRequest request = requestRepository.findById(itemDto.getRequestId())
+                    .orElseThrow(() -> new ItemRequestNotFoundException("Item request with ID " + itemDto.getRequestId() + " not presented"));
+            newItem = ItemMapper.itemDtoToItem(itemDto, owner, request);
         } else {
-            newItem = ItemMapper.itemDtoToItem(itemDto, userRepository.findById(userID).get());
+            newItem = ItemMapper.itemDtoToItem(itemDto, owner);
         }
         itemRepository.save(newItem);
+        summaryUpdater.itemAdded(newItem.getId());
+        searchIndex.index(newItem);
         log.info("Create new item with ID {}, name {} and owner ID {}", newItem.getId(), newItem.getName(), userID);
         return ItemMapper.itemToItemDTO(newItem);
     }
@@ -74,7 +86,8 @@ public class ItemServiceImpl implements ItemService {
         if (!userRepository.existsById(userID)) {
             throw new UserNotFoundException("User with ID " + userID + " not present");
         }
-        Item item = itemRepository.findById(itemDto.getId()).get();
+        Item item = itemRepository.findById(itemDto.getId())
+                .orElseThrow(() -> new ItemNotFoundException("Item with ID " + itemDto.getId() + " not present"));
         if (item.getOwner().getId() != userID) {
             throw new IncorrectItemOwnerException("User with ID " + userID + " not owner of current item with ID " + item.getId());
         }
@@ -88,19 +101,18 @@ public class ItemServiceImpl implements ItemService {
             item.setAvailable(itemDto.getAvailable());
         }
         itemRepository.save(item);
+        searchIndex.index(item);
         log.info("Item with ID {} updated", item.getId());
         return ItemMapper.itemToItemDTO(item);
     }
 
     @Override
     public ItemWithBookingsAndCommentsDTO getItemByID(int itemID, int userID) {
-        if (!itemRepository.existsById(itemID)) {
-            throw new ItemNotFoundException("Item with ID " + itemID + " not present");
-        }
+        Item item = itemRepository.findById(itemID)
+                .orElseThrow(() -> new ItemNotFoundException("Item with ID " + itemID + " not present"));
         if (!userRepository.existsById(userID)) {
             throw new UserNotFoundException("User with ID " + userID + " not present");
         }
-        Item item = itemRepository.findById(itemID).get();
         log.info("Getting item with ID {}", itemID);
         if (item.getOwner().getId() == userID) {
             return createOutcomeItemDtoWithBookingsAndComments(item, LocalDateTime.now());
@@ -109,25 +121,32 @@ public class ItemServiceImpl implements ItemService {
     }
 
     @Override
+    @Transactional
     public Collection<ItemWithBookingsAndCommentsDTO> getItemsOfUserByID(int userID, int from, int size) {
         if (!userRepository.existsById(userID)) {
             throw new UserNotFoundException("User with ID " + userID + " not present");
         }
-        List<Item> itemsOfUser = itemRepository.findAllByUserId(userID, new Paginator(from, size));
-        List<ItemWithBookingsAndCommentsDTO> itemsDTO = new ArrayList<>();
-        for (Item item : itemsOfUser) {
-            ItemWithBookingsAndCommentsDTO dto = createOutcomeItemDtoWithBookingsAndComments(item, LocalDateTime.now());
-            itemsDTO.add(dto);
-        }
+        List<ItemWithBookingsAndCommentsDTO> itemsDTO = createOutcomeItemDtosOfOwner(
+                itemRepository.findAllByUserId(userID, new Paginator(from, size)));
         log.info("Get itemsDTO list with size {}", itemsDTO.size());
         return itemsDTO;
     }
 
+    @Override
+    @Transactional
+    public Collection<ItemWithBookingsAndCommentsDTO> getItemsOfUserAfterCursor(int userID, PageCursor cursor, int size) {
+        if (!userRepository.existsById(userID)) {
+            throw new UserNotFoundException("User with ID " + userID + " not present");
+        }
+        List<ItemWithBookingsAndCommentsDTO> itemsDTO = createOutcomeItemDtosOfOwner(
+                itemRepository.findAllByUserIdAfter(userID, cursor.getId(), new Paginator(0, size)));
+        log.info("Get itemsDTO list with size {} after item with ID {}", itemsDTO.size(), cursor.getId());
+        return itemsDTO;
+    }
+
     @Override
     public Collection<ItemDTO> searchItemsByText(String text, int from, int size) {
-        List<ItemDTO> itemsDTO = itemRepository.findItemByNameAndDesc(text.toLowerCase(), new Paginator(from, size))
-                .stream().map(ItemMapper::itemToItemDTO)
-                .collect(Collectors.toList());
+        List<ItemDTO> itemsDTO = searchIndex.search(text, from, size);
         log.info("Get itemsDTO list with size {}", itemsDTO.size());
         return itemsDTO;
     }
@@ -135,44 +154,105 @@ public class ItemServiceImpl implements ItemService {
     @Override
     @Transactional
     public OutcomeCommentDTO addCommentToItemByUser(int itemID, int userID, IncomeCommentDTO dto) {
-        if (!itemRepository.existsById(itemID)) {
-            throw new ItemNotFoundException("Item with ID " + itemID + " not present");
-        }
-        if (!userRepository.existsById(userID)) {
-            throw new UserNotFoundException("User with ID " + userID + " not present");
-        }
+        Item item = itemRepository.findById(itemID)
+                .orElseThrow(() -> new ItemNotFoundException("Item with ID " + itemID + " not present"));
+        User author = userRepository.findById(userID)
+                .orElseThrow(() -> new UserNotFoundException("User with ID " + userID + " not present"));
         if (bookingRepository.findOneApprovedBookingOfUser(userID).isEmpty()) {
             throw new UserNotBookedItemException("User with ID " + userID + " didn't book item");
         }
         if (bookingRepository.findOneApprovedBookingOfItemInPast(itemID, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS)).isEmpty()) {
             throw new BookingValidationException("Item with ID " + itemID + " didn't book yet");
         }
-        Comment newComment = CommentMapper.incomeCommentDtoToComment(dto,
-                userRepository.findById(userID).get(),
-                itemRepository.findById(itemID).get());
+        Comment newComment = CommentMapper.incomeCommentDtoToComment(dto, author, item);
         commentRepository.save(newComment);
+        summaryUpdater.commentAdded(itemID);
         log.info("Add new comment with ID {} to item with ID {} by user with ID {}", newComment.getId(), itemID, userID);
         return CommentMapper.commentToOutcomeCommentDTO(newComment);
     }
 
     private ItemWithBookingsAndCommentsDTO createOutcomeItemDtoWithBookingsAndComments(Item item, LocalDateTime moment) {
-        Optional<Booking> last = bookingRepository.findPreviousItemBooking(item.getId(), moment);
-        Optional<Booking> next = bookingRepository.findNextItemBooking(item.getId(), moment);
         ItemWithBookingsAndCommentsDTO dto = ItemMapper.itemToItemWithBookingsAndCommentsDTO(item);
-        if (last.isEmpty()) {
-            dto.setLastBooking(null);
-        } else {
-            dto.setLastBooking(BookingMapper.bookingToShortBooking(last.get()));
-        }
-        if (next.isEmpty()) {
-            dto.setNextBooking(null);
-        } else {
-            dto.setNextBooking(BookingMapper.bookingToShortBooking(next.get()));
-        }
+        dto.setLastBooking(bookingIndex.findLast(item.getId(), moment).orElse(null));
+        dto.setNextBooking(bookingIndex.findNext(item.getId(), moment).orElse(null));
         dto.setComments(collectOutcomeCommentsDtoOfItemByID(item.getId()));
         return dto;
     }
 
+    private List<ItemWithBookingsAndCommentsDTO> createOutcomeItemDtosOfOwner(List<Item> itemsOfUser) {
+        List<ItemWithBookingsAndCommentsDTO> itemsDTO = new ArrayList<>();
+        if (itemsOfUser.isEmpty()) {
+            return itemsDTO;
+        }
+        List<Integer> itemIDs = itemsOfUser.stream().map(Item::getId).collect(Collectors.toList());
+        LocalDateTime moment = LocalDateTime.now();
+        Map<Integer, ItemSummary> summaries = summaryRepository.findAllById(itemIDs).stream()
+                .collect(Collectors.toMap(ItemSummary::getItemId, Function.identity()));
+        List<Integer> staleIDs = itemIDs.stream()
+                .filter(id -> !summaries.containsKey(id) || summaries.get(id).isStale(moment))
+                .collect(Collectors.toList());
+        List<Integer> commentedIDs = itemIDs.stream()
+                .filter(id -> !summaries.containsKey(id) || summaries.get(id).getCommentCount() > 0)
+                .collect(Collectors.toList());
+        Map<Integer, Booking> lastBookings = new HashMap<>();
+        Map<Integer, Booking> nextBookings = new HashMap<>();
+        if (!staleIDs.isEmpty()) {
+            Map<Integer, List<Booking>> bookingsOfItems = bookingRepository.findPreviousAndNextBookingsOfItems(staleIDs, moment)
+                    .stream()
+                    .collect(Collectors.groupingBy(booking -> booking.getItem().getId()));
+            for (int itemID : staleIDs) {
+                List<Booking> bookings = bookingsOfItems.getOrDefault(itemID, Collections.emptyList());
+                for (Booking booking : bookings) {
+                    if (booking.getStart().isBefore(moment)) {
+                        lastBookings.put(itemID, booking);
+                    } else {
+                        nextBookings.put(itemID, booking);
+                    }
+                }
+                if (summaries.containsKey(itemID)) {
+                    summaryUpdater.bookingsRecomputed(summaries.get(itemID), bookings, moment);
+                }
+            }
+        }
+        Map<Integer, List<OutcomeCommentDTO>> comments = new HashMap<>();
+        if (!commentedIDs.isEmpty()) {
+            comments = commentRepository.findAllByItemIDs(commentedIDs).stream()
+                    .collect(Collectors.groupingBy(comment -> comment.getItem().getId(),
+                            Collectors.mapping(CommentMapper::commentToOutcomeCommentDTO, Collectors.toList())));
+        }
+        for (Item item : itemsOfUser) {
+            ItemWithBookingsAndCommentsDTO dto = ItemMapper.itemToItemWithBookingsAndCommentsDTO(item);
+            ItemSummary summary = summaries.get(item.getId());
+            if (summary == null || summary.isStale(moment)) {
+                dto.setLastBooking(mapShortBooking(lastBookings.get(item.getId())));
+                dto.setNextBooking(mapShortBooking(nextBookings.get(item.getId())));
+            } else {
+                dto.setLastBooking(mapShortBooking(summary.getLastBookingId(), summary.getLastBookerId()));
+                dto.setNextBooking(mapShortBooking(summary.getNextBookingId(), summary.getNextBookerId()));
+            }
+            dto.setComments(comments.getOrDefault(item.getId(), new ArrayList<>()));
+            itemsDTO.add(dto);
+        }
+        return itemsDTO;
+    }
+
+    private ShortBooking mapShortBooking(Booking booking) {
+        if (booking == null) {
+            return null;
+        }
+        return BookingMapper.bookingToShortBooking(booking);
+    }
+
+    private ShortBooking mapShortBooking(Integer bookingID, Integer bookerID) {
+        if (bookingID == null) {
+            return null;
+        }
+        return ShortBooking.builder()
+                .id(bookingID)
+                .bookerId(bookerID)
+                .build();
+    }
+
     private ItemWithBookingsAndCommentsDTO createOutcomeItemDtoOnlyWithComments(Item item) {
         ItemWithBookingsAndCommentsDTO dto = ItemMapper.itemToItemWithBookingsAndCommentsDTO(item);
         dto.setComments(collectOutcomeCommentsDtoOfItemByID(item.getId()));
@@ -0,0 +1,81 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.ItemSummary;
+import ru.practicum.shareit.item.repository.ItemSummaryRepository;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@AllArgsConstructor
+public class ItemSummaryUpdater {
+    private final ItemSummaryRepository summaryRepository;
+    private final BookingRepository bookingRepository;
+    private final EntityManager entityManager;
+
+    public void itemAdded(int itemID) {
+        entityManager.persist(ItemSummary.builder().itemId(itemID).bookingsLoaded(true).build());
+    }
+
+    public void commentAdded(int itemID) {
+        summaryRepository.incrementCommentCount(itemID);
+    }
+
+    public void bookingsApproved(Collection<Integer> itemIDs) {
+        List<ItemSummary> summaries = summaryRepository.findAllById(itemIDs);
+        if (summaries.isEmpty()) {
+            return;
+        }
+        LocalDateTime moment = LocalDateTime.now();
+        List<Integer> summaryIDs = summaries.stream().map(ItemSummary::getItemId).collect(Collectors.toList());
+        Map<Integer, List<Booking>> bookingsOfItems = bookingRepository.findPreviousAndNextBookingsOfItems(summaryIDs, moment)
+                .stream()
+                .collect(Collectors.groupingBy(booking -> booking.getItem().getId()));
+        for (ItemSummary summary : summaries) {
+            refresh(summary, bookingsOfItems.getOrDefault(summary.getItemId(), Collections.emptyList()), moment);
+            summary.setVersion(summary.getVersion() + 1);
+        }
+    }
+
+    public void bookingsRecomputed(ItemSummary stale, List<Booking> bookings, LocalDateTime moment) {
+        ItemSummary summary = ItemSummary.builder().itemId(stale.getItemId()).build();
+        refresh(summary, bookings, moment);
+        summaryRepository.storeBookingsOfVersion(summary.getItemId(), stale.getVersion(),
+                summary.getLastBookingId(), summary.getLastBookerId(), summary.getLastStart(),
+                summary.getNextBookingId(), summary.getNextBookerId(), summary.getNextStart());
+    }
+
+    public void bookerDeleted(int userID) {
+        summaryRepository.invalidateBookingsOfBooker(userID);
+    }
+
+    private void refresh(ItemSummary summary, List<Booking> bookings, LocalDateTime moment) {
+        summary.setLastBookingId(null);
+        summary.setLastBookerId(null);
+        summary.setLastStart(null);
+        summary.setNextBookingId(null);
+        summary.setNextBookerId(null);
+        summary.setNextStart(null);
+        for (Booking booking : bookings) {
+            if (booking.getStart().isBefore(moment)) {
+                summary.setLastBookingId(booking.getId());
+                summary.setLastBookerId(booking.getBooker().getId());
+                summary.setLastStart(booking.getStart());
+            } else {
+                summary.setNextBookingId(booking.getId());
+                summary.setNextBookerId(booking.getBooker().getId());
+                summary.setNextStart(booking.getStart());
+            }
+        }
+        summary.setBookingsLoaded(true);
+    }
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class SqlStatementCounter implements StatementInspector {
+    private final ThreadLocal<int[]> statements = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = statements.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+
+    public void start() {
+        statements.set(new int[1]);
+    }
+
+    public int stop() {
+        int[] counter = statements.get();
+        statements.remove();
+        return counter == null ? 0 : counter[0];
+    }
+}
@@ -27,7 +27,7 @@ public class ItemRequestController {
     @PostMapping
     public OutcomeItemRequestDTO create(@RequestHeader("X-Sharer-User-Id") int userID,
                                         @RequestBody IncomeItemRequestDTO dto) {
-        log.info("Server : POST to /requests from userID {} and {}", userID, dto.toString());
+        log.info("Server : POST to /requests from userID {} and {}", userID, dto);
         return requestService.addRequest(userID, dto);
     }
 
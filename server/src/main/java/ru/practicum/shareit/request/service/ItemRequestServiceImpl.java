@@ -11,15 +11,18 @@ import ru.practicum.shareit.exceptions.ItemRequestNotFoundException;
 import ru.practicum.shareit.exceptions.UserNotFoundException;
 import ru.practicum.shareit.item.ItemMapper;
 import ru.practicum.shareit.item.dto.ItemDTO;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.request.dto.IncomeItemRequestDTO;
 import ru.practicum.shareit.request.dto.OutcomeItemRequestWithItemsDTO;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -37,10 +40,9 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     @Transactional
     public OutcomeItemRequestDTO addRequest(int userID, IncomeItemRequestDTO dto) {
         dto.setCreated(LocalDateTime.now());
-        if (!userRepository.existsById(userID)) {
-            throw new UserNotFoundException("User with ID " + userID + " not present");
-        }
-        ItemRequest newRequest = RequestMapper.incomeDtoToItemRequest(dto, userRepository.findById(userID).get());
+        User requestor = userRepository.findById(userID)
+                .orElseThrow(() -> new UserNotFoundException("User with ID " + userID + " not present"));
+        ItemRequest newRequest = RequestMapper.incomeDtoToItemRequest(dto, requestor);
         requestRepository.save(newRequest);
         log.info("Create new request with ID {} from user with ID {}", newRequest.getId(), userID);
         return RequestMapper.itemRequestToOutcomeRequestDTO(newRequest);
@@ -51,11 +53,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         if (!userRepository.existsById(userID)) {
             throw new UserNotFoundException("User with ID " + userID + " not present");
         }
-        List<OutcomeItemRequestWithItemsDTO> outcomeDTOs = new ArrayList<>();
-        for (ItemRequest request : requestRepository.findAllByUserID(userID)) {
-            outcomeDTOs.add(RequestMapper.itemRequestToOutcomeRequestWithItemsDTO(request,
-                    prepareItemsForRequestDTO(request.getId())));
-        }
+        List<OutcomeItemRequestWithItemsDTO> outcomeDTOs = prepareRequestsWithItems(requestRepository.findAllByUserID(userID));
         log.info("Get requests list of size {} with items", outcomeDTOs.size());
         return outcomeDTOs;
     }
@@ -65,12 +63,9 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         if (!userRepository.existsById(userID)) {
             throw new UserNotFoundException("User with ID " + userID + " not present");
         }
-        if (!requestRepository.existsById(requestID)) {
-            throw new ItemRequestNotFoundException("Item request with ID " + requestID + " not presented");
-        }
-        return RequestMapper.itemRequestToOutcomeRequestWithItemsDTO(
-                requestRepository.findById(requestID).get(),
-                prepareItemsForRequestDTO(requestID));
+        ItemRequest request = requestRepository.findById(requestID)
+                .orElseThrow(() -> new ItemRequestNotFoundException("Item request with ID " + requestID + " not presented"));
+        return RequestMapper.itemRequestToOutcomeRequestWithItemsDTO(request, prepareItemsForRequestDTO(requestID));
     }
 
     @Override
@@ -78,12 +73,31 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         if (!userRepository.existsById(userID)) {
             throw new UserNotFoundException("User with ID " + userID + " not present");
         }
+        List<OutcomeItemRequestWithItemsDTO> outcomeDTOs = prepareRequestsWithItems(
+                requestRepository.findAllFromAnotherUsers(userID, new Paginator(from, size)));
+        log.info("Get requests list of size {} with items", outcomeDTOs.size());
+        return outcomeDTOs;
+    }
+
+    private List<OutcomeItemRequestWithItemsDTO> prepareRequestsWithItems(List<ItemRequest> requests) {
+        if (requests.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Integer> requestIDs = requests.stream().map(ItemRequest::getId).collect(Collectors.toList());
+        int[] sortedIDs = requests.stream().mapToInt(ItemRequest::getId).sorted().toArray();
+        List<List<ItemDTO>> itemsOfRequests = new ArrayList<>(sortedIDs.length);
+        for (int i = 0; i < sortedIDs.length; i++) {
+            itemsOfRequests.add(new ArrayList<>());
+        }
+        for (Item item : itemRepository.findAllByRequestIDs(requestIDs)) {
+            int slot = Arrays.binarySearch(sortedIDs, item.getRequest().getId());
+            itemsOfRequests.get(slot).add(ItemMapper.itemToItemDTO(item));
+        }
         List<OutcomeItemRequestWithItemsDTO> outcomeDTOs = new ArrayList<>();
-        for (ItemRequest request : requestRepository.findAllFromAnotherUsers(userID, new Paginator(from, size))) {
+        for (ItemRequest request : requests) {
             outcomeDTOs.add(RequestMapper.itemRequestToOutcomeRequestWithItemsDTO(request,
-                    prepareItemsForRequestDTO(request.getId())));
+                    itemsOfRequests.get(Arrays.binarySearch(sortedIDs, request.getId()))));
         }
-        log.info("Get requests list of size {} with items", outcomeDTOs.size());
         return outcomeDTOs;
     }
 
@@ -36,14 +36,14 @@ public class UserController {
 
     @PostMapping
     public UserDTO create(@RequestBody UserDTO userDto) {
-        log.info("Server : POST to /users with {}", userDto.toString());
+        log.info("Server : POST to /users with {}", userDto);
         return userService.addUser(userDto);
     }
 
     @PatchMapping("/{id}")
     public UserDTO patch(@PathVariable int id, @RequestBody UserDTO userDto) {
         userDto.setId(id);
-        log.info("Server : PATCH to /users/{} with {}", id, userDto.toString());
+        log.info("Server : PATCH to /users/{} with {}", id, userDto);
         return userService.patchUser(userDto);
     }
 
@@ -9,4 +9,9 @@ import java.util.List;
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer> {
     List<User> findByEmailIgnoreCase(String emailSearch);
+
+    @Override
+    default boolean existsById(Integer id) {
+        return findById(id).isPresent();
+    }
 }
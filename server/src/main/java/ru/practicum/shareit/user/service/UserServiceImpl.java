@@ -4,13 +4,20 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.TransactionCallbacks;
+import ru.practicum.shareit.booking.service.ItemBookingIndex;
 import ru.practicum.shareit.exceptions.EmailAlreadyExistException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemSearchIndex;
+import ru.practicum.shareit.item.service.ItemSummaryUpdater;
+import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.UserMapper;
 import ru.practicum.shareit.user.dto.UserDTO;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 import ru.practicum.shareit.exceptions.UserNotFoundException;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -21,6 +28,10 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
     private final UserRepository repository;
+    private final ItemSearchIndex searchIndex;
+    private final ItemBookingIndex bookingIndex;
+    private final ItemSummaryUpdater summaryUpdater;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Override
     public List<UserDTO> getAllUsers() {
@@ -40,10 +51,8 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public UserDTO patchUser(UserDTO userDto) {
-        if (!repository.existsById(userDto.getId())) {
-            throw new UserNotFoundException("User with ID " + userDto.getId() + " not present");
-        }
-        User user = repository.findById(userDto.getId()).get();
+        User user = repository.findById(userDto.getId())
+                .orElseThrow(() -> new UserNotFoundException("User with ID " + userDto.getId() + " not present"));
         if (userDto.getName() != null) {
             user.setName(userDto.getName());
         }
@@ -61,11 +70,17 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public void deleteUser(int id) {
-        if (!repository.existsById(id)) {
-            throw new UserNotFoundException("User with ID " + id + " not present");
-        }
+        User user = repository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException("User with ID " + id + " not present"));
         log.info("Deleting user with ID {}", id);
-        repository.deleteById(id);
+        searchIndex.evictItemsDeletedWithUser(id);
+        bookingIndex.evictAll();
+        summaryUpdater.bookerDeleted(id);
+        repository.delete(user);
+        TransactionCallbacks.runAfterCommit(() -> {
+            entityManagerFactory.getCache().evict(Item.class);
+            entityManagerFactory.getCache().evict(ItemRequest.class);
+        });
     }
 
     @Override
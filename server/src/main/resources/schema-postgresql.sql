@@ -0,0 +1,35 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_items_name_trgm ON items USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_items_description_trgm ON items USING gin (lower(description) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_waiting ON bookings (booker_id, start_date DESC) WHERE status = 'WAITING';
+
+CREATE INDEX IF NOT EXISTS idx_bookings_owner_waiting ON bookings (item_owner_id, start_date DESC) WHERE status = 'WAITING';
+
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_rejected ON bookings (booker_id, start_date DESC) WHERE status IN ('REJECTED', 'CANCELED');
+
+CREATE INDEX IF NOT EXISTS idx_bookings_owner_rejected ON bookings (item_owner_id, start_date DESC) WHERE status IN ('REJECTED', 'CANCELED');
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DO '
+BEGIN
+  IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = ''bookings_approved_no_overlap'') THEN
+    ALTER TABLE bookings ADD CONSTRAINT bookings_approved_no_overlap
+      EXCLUDE USING gist (item_id WITH =, tsrange(start_date, end_date) WITH &&) WHERE (status = ''APPROVED'');
+  END IF;
+EXCEPTION WHEN exclusion_violation THEN
+  RAISE WARNING ''bookings_approved_no_overlap not added: approved bookings of an item already overlap'';
+END';
+
+SELECT setval('users_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM users), (SELECT last_value FROM users_seq)));
+
+SELECT setval('requests_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM requests), (SELECT last_value FROM requests_seq)));
+
+SELECT setval('items_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM items), (SELECT last_value FROM items_seq)));
+
+SELECT setval('comments_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM comments), (SELECT last_value FROM comments_seq)));
+
+SELECT setval('bookings_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM bookings), (SELECT last_value FROM bookings_seq)));
@@ -44,8 +44,53 @@ CREATE TABLE IF NOT EXISTS bookings (
   end_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
   item_id BIGINT NOT NULL,
   booker_id BIGINT NOT NULL,
+  item_owner_id BIGINT NOT NULL,
   status VARCHAR(20) NOT NULL,
   CONSTRAINT pk_booking PRIMARY KEY (id),
   FOREIGN KEY(booker_id) REFERENCES users(id) ON DELETE CASCADE,
   FOREIGN KEY(item_id) REFERENCES items(id) ON DELETE CASCADE
 );
+
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS item_owner_id BIGINT;
+
+UPDATE bookings SET item_owner_id = (SELECT i.owner_id FROM items AS i WHERE i.id = bookings.item_id)
+WHERE item_owner_id IS NULL;
+
+ALTER TABLE bookings ALTER COLUMN item_owner_id SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_items_owner ON items (owner_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_start ON bookings (booker_id, start_date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_owner_start ON bookings (item_owner_id, start_date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_item_status_start ON bookings (item_id, status, start_date);
+
+CREATE TABLE IF NOT EXISTS item_summaries (
+  item_id BIGINT NOT NULL,
+  last_booking_id BIGINT,
+  last_booker_id BIGINT,
+  last_start TIMESTAMP WITHOUT TIME ZONE,
+  next_booking_id BIGINT,
+  next_booker_id BIGINT,
+  next_start TIMESTAMP WITHOUT TIME ZONE,
+  comment_count INT NOT NULL DEFAULT 0,
+  bookings_loaded BOOLEAN NOT NULL DEFAULT FALSE,
+  version BIGINT NOT NULL DEFAULT 0,
+  CONSTRAINT pk_item_summary PRIMARY KEY (item_id),
+  FOREIGN KEY(item_id) REFERENCES items(id) ON DELETE CASCADE
+);
+
+INSERT INTO item_summaries (item_id, comment_count)
+SELECT i.id, (SELECT COUNT(*) FROM comments AS c WHERE c.item_id = i.id) FROM items AS i
+WHERE NOT EXISTS (SELECT 1 FROM item_summaries AS s WHERE s.item_id = i.id);
+
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS requests_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS items_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS comments_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS bookings_seq START WITH 1 INCREMENT BY 50;
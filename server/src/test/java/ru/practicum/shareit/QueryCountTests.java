@@ -0,0 +1,339 @@
+package ru.practicum.shareit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingStatus;
+import ru.practicum.shareit.booking.dto.IncomeBookingDTO;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.IncomeCommentDTO;
+import ru.practicum.shareit.item.dto.ItemDTO;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSummary;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.repository.ItemSummaryRepository;
+import ru.practicum.shareit.request.dto.IncomeItemRequestDTO;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.dto.UserDTO;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.cache.use_second_level_cache=true")
+@AutoConfigureMockMvc
+@Transactional
+public class QueryCountTests {
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRequestRepository requestRepository;
+    @Autowired
+    private ItemSummaryRepository summaryRepository;
+    private Statistics statistics;
+    private User owner;
+    private User booker;
+    private Item item;
+    private Booking booking;
+    private ItemRequest request;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        owner = userRepository.save(User.builder().name("Jo").email("j@i.jo").build());
+        booker = userRepository.save(User.builder().name("Leo").email("l@e.o").build());
+        item = itemRepository.save(Item.builder().owner(owner).name("dollar").description("one dollar").available(true).build());
+        booking = bookingRepository.save(Booking.builder()
+                .booker(booker)
+                .item(item)
+                .start(LocalDateTime.now().minusDays(2))
+                .end(LocalDateTime.now().minusDays(1))
+                .status(BookingStatus.APPROVED)
+                .build());
+        request = requestRepository.save(ItemRequest.builder()
+                .requestor(booker)
+                .description("need money")
+                .created(LocalDateTime.now())
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void addBooking_fiveStatements() {
+        IncomeBookingDTO dto = IncomeBookingDTO.builder()
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .itemId(item.getId())
+                .build();
+
+        assertStatementsAtMost(5, post("/bookings")
+                .header("X-Sharer-User-Id", booker.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(dto)));
+    }
+
+    @Test
+    void addBookings_fiveStatements_whenSeveralBookings() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<IncomeBookingDTO> dtos = List.of(
+                IncomeBookingDTO.builder().start(start).end(start.plusDays(1)).itemId(item.getId()).build(),
+                IncomeBookingDTO.builder().start(start.plusDays(2)).end(start.plusDays(3)).itemId(item.getId()).build(),
+                IncomeBookingDTO.builder().start(start.plusDays(4)).end(start.plusDays(5)).itemId(item.getId()).build());
+
+        assertStatementsAtMost(5, post("/bookings/bulk")
+                .header("X-Sharer-User-Id", booker.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(dtos)));
+    }
+
+    @Test
+    void changeBookingStatus_fiveStatements() {
+        Booking waiting = bookingRepository.save(Booking.builder().booker(booker).item(item).status(BookingStatus.WAITING)
+                .start(LocalDateTime.now().plusDays(1)).end(LocalDateTime.now().plusDays(2)).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertStatementsAtMost(5, patch("/bookings/{id}", waiting.getId())
+                .header("X-Sharer-User-Id", owner.getId())
+                .param("approved", "false"));
+    }
+
+    @Test
+    void changeBookingsStatus_sevenStatements_whenApprovingSeveralBookings() {
+        List<Booking> waiting = bookingRepository.saveAll(List.of(
+                Booking.builder().booker(booker).item(item).status(BookingStatus.WAITING)
+                        .start(LocalDateTime.now().plusDays(1)).end(LocalDateTime.now().plusDays(2)).build(),
+                Booking.builder().booker(booker).item(item).status(BookingStatus.WAITING)
+                        .start(LocalDateTime.now().plusDays(3)).end(LocalDateTime.now().plusDays(4)).build(),
+                Booking.builder().booker(booker).item(item).status(BookingStatus.WAITING)
+                        .start(LocalDateTime.now().plusDays(5)).end(LocalDateTime.now().plusDays(6)).build()));
+        entityManager.flush();
+        entityManager.clear();
+        List<Integer> bookingIDs = waiting.stream().map(Booking::getId).collect(Collectors.toList());
+
+        assertStatementsAtMost(7, patch("/bookings/bulk")
+                .header("X-Sharer-User-Id", owner.getId())
+                .param("approved", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(bookingIDs)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+    void getBookingsByState_twoStatements_forBookerAndOwner(String state) {
+        LocalDateTime now = LocalDateTime.now();
+        Item euro = itemRepository.save(Item.builder().owner(owner).name("euro").description("one euro").available(true).build());
+        bookingRepository.saveAll(List.of(
+                Booking.builder().booker(booker).item(euro).status(BookingStatus.APPROVED)
+                        .start(now.minusDays(1)).end(now.plusDays(1)).build(),
+                Booking.builder().booker(booker).item(euro).status(BookingStatus.WAITING)
+                        .start(now.plusDays(2)).end(now.plusDays(3)).build(),
+                Booking.builder().booker(booker).item(item).status(BookingStatus.REJECTED)
+                        .start(now.plusDays(4)).end(now.plusDays(5)).build()));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertStatementsAtMost(2, get("/bookings")
+                .header("X-Sharer-User-Id", booker.getId())
+                .param("state", state)
+                .param("size", "10"));
+        entityManager.clear();
+        assertStatementsAtMost(2, get("/bookings/owner")
+                .header("X-Sharer-User-Id", owner.getId())
+                .param("state", state)
+                .param("size", "10"));
+    }
+
+    @Test
+    void getBookingByID_fourStatements() {
+        assertStatementsAtMost(4, get("/bookings/{id}", booking.getId())
+                .header("X-Sharer-User-Id", booker.getId()));
+    }
+
+    @Test
+    void addItem_fourStatements() {
+        ItemDTO dto = ItemDTO.builder().name("euro").description("one euro").available(true).build();
+
+        assertStatementsAtMost(4, post("/items")
+                .header("X-Sharer-User-Id", owner.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(dto)));
+    }
+
+    @Test
+    void getItemByID_fiveStatements_whenOwner() {
+        assertStatementsAtMost(5, get("/items/{id}", item.getId())
+                .header("X-Sharer-User-Id", owner.getId()));
+    }
+
+    @Test
+    void getItemsOfOwner_threeStatements_whenSummariesFresh() {
+        for (int i = 0; i < 10; i++) {
+            Item coin = itemRepository.save(Item.builder().owner(owner).name("coin " + i).description("one coin")
+                    .available(true).build());
+            summaryRepository.save(ItemSummary.builder().itemId(coin.getId()).bookingsLoaded(true).build());
+        }
+        summaryRepository.save(ItemSummary.builder().itemId(item.getId()).bookingsLoaded(true).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertStatementsAtMost(3, get("/items")
+                .header("X-Sharer-User-Id", owner.getId())
+                .param("from", "0")
+                .param("size", "20"));
+    }
+
+    @Test
+    void getItemsOfOwner_staleSummariesStored_whenRecomputed() {
+        for (int i = 0; i < 10; i++) {
+            Item coin = itemRepository.save(Item.builder().owner(owner).name("coin " + i).description("one coin")
+                    .available(true).build());
+            summaryRepository.save(ItemSummary.builder().itemId(coin.getId()).build());
+        }
+        summaryRepository.save(ItemSummary.builder().itemId(item.getId()).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertStatementsAtMost(15, get("/items")
+                .header("X-Sharer-User-Id", owner.getId())
+                .param("from", "0")
+                .param("size", "20"));
+        entityManager.clear();
+
+        assertStatementsAtMost(3, get("/items")
+                .header("X-Sharer-User-Id", owner.getId())
+                .param("from", "0")
+                .param("size", "20"));
+    }
+
+    @Test
+    void addComment_sevenStatements() {
+        IncomeCommentDTO dto = IncomeCommentDTO.builder().text("love money").build();
+
+        assertStatementsAtMost(7, post("/items/{id}/comment", item.getId())
+                .header("X-Sharer-User-Id", booker.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(dto)));
+    }
+
+    @Test
+    void addRequest_threeStatements() {
+        IncomeItemRequestDTO dto = IncomeItemRequestDTO.builder().description("need euro").build();
+
+        assertStatementsAtMost(3, post("/requests")
+                .header("X-Sharer-User-Id", booker.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(dto)));
+    }
+
+    @Test
+    void getRequestByID_threeStatements() {
+        assertStatementsAtMost(3, get("/requests/{id}", request.getId())
+                .header("X-Sharer-User-Id", owner.getId()));
+    }
+
+    @Test
+    void getRequestsWithItems_threeStatements_whenSeveralRequests() {
+        for (int i = 0; i < 10; i++) {
+            ItemRequest newRequest = requestRepository.save(ItemRequest.builder()
+                    .requestor(booker)
+                    .description("need coin " + i)
+                    .created(LocalDateTime.now())
+                    .build());
+            itemRepository.save(Item.builder().owner(owner).name("coin " + i).description("one coin")
+                    .available(true).request(newRequest).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        assertStatementsAtMost(3, get("/requests")
+                .header("X-Sharer-User-Id", booker.getId()));
+        entityManager.clear();
+        assertStatementsAtMost(3, get("/requests/all")
+                .header("X-Sharer-User-Id", owner.getId())
+                .param("from", "0")
+                .param("size", "20"));
+    }
+
+    @Test
+    void patchUser_twoStatements() {
+        UserDTO dto = UserDTO.builder().name("Joe").build();
+
+        assertStatementsAtMost(2, patch("/users/{id}", owner.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(dto)));
+    }
+
+    @Test
+    void deleteUser_fourStatements() {
+        assertStatementsAtMost(4, delete("/users/{id}", booker.getId()));
+    }
+
+    @Test
+    void saveAll_batchesInserts_whenManyUsers() {
+        List<User> users = IntStream.range(0, 120)
+                .mapToObj(i -> User.builder().name("user" + i).email("user" + i + "@sha.re").build())
+                .collect(Collectors.toList());
+        statistics.clear();
+
+        userRepository.saveAll(users);
+        entityManager.flush();
+
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= 10, "Expected at most 10 statements, but was " + statements);
+    }
+
+    @SneakyThrows
+    private void assertStatementsAtMost(int expected, RequestBuilder request) {
+        statistics.clear();
+        mvc.perform(request).andExpect(status().isOk());
+        entityManager.flush();
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= expected, "Expected at most " + expected + " statements, but was " + statements);
+    }
+
+    @SneakyThrows
+    private String toJson(Object dto) {
+        return objectMapper.writeValueAsString(dto);
+    }
+}
@@ -0,0 +1,128 @@
+package ru.practicum.shareit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import ru.practicum.shareit.booking.dto.BookingStatus;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.ItemDTO;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.repository.ItemSummaryRepository;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.cache.use_second_level_cache=true")
+@AutoConfigureMockMvc
+public class SecondLevelCacheTests {
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ItemSummaryRepository summaryRepository;
+    @Autowired
+    private ItemRequestRepository requestRepository;
+    private Statistics statistics;
+    private User owner;
+    private User booker;
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        owner = userRepository.save(User.builder().name("Jo").email("j@i.jo").build());
+        booker = userRepository.save(User.builder().name("Leo").email("l@e.o").build());
+        Item item = itemRepository.save(Item.builder().owner(owner).name("dollar").description("one dollar").available(true).build());
+        booking = bookingRepository.save(Booking.builder()
+                .booker(booker)
+                .item(item)
+                .start(LocalDateTime.now().minusDays(2))
+                .end(LocalDateTime.now().minusDays(1))
+                .status(BookingStatus.APPROVED)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAllInBatch();
+        bookingRepository.deleteAllInBatch();
+        summaryRepository.deleteAllInBatch();
+        itemRepository.deleteAllInBatch();
+        requestRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void getBookingByID_loadsUsersAndItemFromSecondLevelCache_onRepeatedRequest() {
+        assertStatementsAtMost(5, get("/bookings/{id}", booking.getId())
+                .header("X-Sharer-User-Id", booker.getId()));
+
+        assertStatementsAtMost(2, get("/bookings/{id}", booking.getId())
+                .header("X-Sharer-User-Id", booker.getId()));
+        assertEquals(0, statistics.getSecondLevelCacheMissCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    void addItem_keepsUsersAndItemsCached() {
+        assertStatementsAtMost(5, get("/bookings/{id}", booking.getId())
+                .header("X-Sharer-User-Id", booker.getId()));
+        ItemDTO dto = ItemDTO.builder().name("euro").description("one euro").available(true).build();
+        assertStatementsAtMost(4, post("/items")
+                .header("X-Sharer-User-Id", owner.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(dto)));
+
+        assertStatementsAtMost(2, get("/bookings/{id}", booking.getId())
+                .header("X-Sharer-User-Id", booker.getId()));
+        assertEquals(0, statistics.getSecondLevelCacheMissCount());
+    }
+
+    @SneakyThrows
+    private void assertStatementsAtMost(int expected, RequestBuilder request) {
+        statistics.clear();
+        mvc.perform(request).andExpect(status().isOk());
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= expected, "Expected at most " + expected + " statements, but was " + statements);
+    }
+
+    @SneakyThrows
+    private String toJson(Object dto) {
+        return objectMapper.writeValueAsString(dto);
+    }
+}
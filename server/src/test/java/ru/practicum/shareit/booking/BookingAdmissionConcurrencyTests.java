@@ -0,0 +1,103 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingStatus;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exceptions.BookingOverlapException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class BookingAdmissionConcurrencyTests {
+    private static final int THREADS = 8;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    private User owner;
+    private User booker;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("Jo").email("jo@concurrency.test").build());
+        booker = userRepository.save(User.builder().name("Leo").email("leo@concurrency.test").build());
+        item = itemRepository.save(Item.builder().owner(owner).name("dollar").description("one dollar").available(true).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll(List.of(owner, booker));
+    }
+
+    @Test
+    void changeBookingStatus_approvesOnlyOne_whenOverlappingBookingsApprovedConcurrently() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<Integer> bookingIDs = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            bookingIDs.add(bookingRepository.save(Booking.builder()
+                    .booker(booker)
+                    .item(item)
+                    .start(start.plusHours(i))
+                    .end(start.plusDays(1).plusHours(i))
+                    .status(BookingStatus.WAITING)
+                    .build()).getId());
+        }
+        AtomicInteger approved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int bookingID : bookingIDs) {
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                try {
+                    bookingService.changeBookingStatus(owner.getId(), bookingID, true);
+                    approved.incrementAndGet();
+                } catch (BookingOverlapException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(1, approved.get());
+        assertEquals(THREADS - 1, rejected.get());
+        long approvedInBase = bookingRepository.findAllById(bookingIDs).stream()
+                .filter(booking -> booking.getStatus() == BookingStatus.APPROVED)
+                .count();
+        assertEquals(1, approvedInBase);
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+}
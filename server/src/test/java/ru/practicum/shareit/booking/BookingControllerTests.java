@@ -8,7 +8,11 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.PageCursor;
+import ru.practicum.shareit.booking.dto.AvailabilitySlot;
 import ru.practicum.shareit.booking.dto.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingStatusChangeResult;
+import ru.practicum.shareit.booking.dto.BulkBookingResult;
 import ru.practicum.shareit.booking.dto.IncomeBookingDTO;
 import ru.practicum.shareit.booking.dto.OutcomeBookingDTO;
 import ru.practicum.shareit.booking.service.BookingService;
@@ -21,6 +25,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -76,6 +83,49 @@ public class BookingControllerTests {
         assertEquals(response, objectMapper.writeValueAsString(outcomeDTO));
     }
 
+    @SneakyThrows
+    @Test
+    void createAll_correctCreation() {
+        int userID = 2;
+        int itemID = 9;
+        User user = User.builder().id(userID).name("Jo").email("j@i.jo").build();
+        Item item = Item.builder().id(itemID).owner(user).name("dollar").description("one dollar").available(true).build();
+        List<IncomeBookingDTO> incomeDTOs = List.of(
+                IncomeBookingDTO.builder()
+                        .start(LocalDateTime.now().plusDays(1))
+                        .end(LocalDateTime.now().plusDays(2))
+                        .itemId(itemID)
+                        .build(),
+                IncomeBookingDTO.builder()
+                        .start(LocalDateTime.now().plusDays(1))
+                        .end(LocalDateTime.now().plusDays(2))
+                        .itemId(77)
+                        .build());
+        List<BulkBookingResult> results = List.of(
+                BulkBookingResult.builder()
+                        .booking(OutcomeBookingDTO.builder()
+                                .id(1)
+                                .booker(UserMapper.userToShortUser(user))
+                                .item(ItemMapper.itemToShortItem(item))
+                                .start(incomeDTOs.get(0).getStart())
+                                .end(incomeDTOs.get(0).getEnd())
+                                .status(BookingStatus.WAITING)
+                                .build())
+                        .build(),
+                BulkBookingResult.builder().error("Item with ID 77 not present").build());
+
+        when(service.addBookings(userID, incomeDTOs)).thenReturn(results);
+        String response = mvc.perform(post("/bookings/bulk")
+                        .header("X-Sharer-User-Id", userID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(incomeDTOs)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        verify(service, atMostOnce()).addBookings(userID, incomeDTOs);
+        assertEquals(objectMapper.writeValueAsString(results), response);
+    }
+
     @SneakyThrows
     @Test
     void patch_error_whenParamNotPresent() {
@@ -117,6 +167,40 @@ public class BookingControllerTests {
         assertEquals(response, objectMapper.writeValueAsString(outcomeDTO));
     }
 
+    @SneakyThrows
+    @Test
+    void patchBulk_correctApproveBookings() {
+        int userID = 88;
+        User user = User.builder().id(userID).name("Jo").email("j@i.jo").build();
+        Item item = Item.builder().id(58).owner(user).name("dollar").description("one dollar").available(true).build();
+        List<Integer> bookingIDs = List.of(70, 71);
+        List<BookingStatusChangeResult> results = List.of(
+                BookingStatusChangeResult.builder()
+                        .bookingId(70)
+                        .booking(OutcomeBookingDTO.builder()
+                                .id(70)
+                                .booker(UserMapper.userToShortUser(user))
+                                .item(ItemMapper.itemToShortItem(item))
+                                .start(LocalDateTime.now().plusDays(1))
+                                .end(LocalDateTime.now().plusDays(2))
+                                .status(BookingStatus.APPROVED)
+                                .build())
+                        .build(),
+                BookingStatusChangeResult.builder().bookingId(71).error("Booking with ID 71 not present").build());
+
+        when(service.changeBookingsStatus(userID, bookingIDs, true)).thenReturn(results);
+        String response = mvc.perform(patch("/bookings/bulk")
+                        .header("X-Sharer-User-Id", userID)
+                        .param("approved", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bookingIDs)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        verify(service, atMostOnce()).changeBookingsStatus(userID, bookingIDs, true);
+        assertEquals(objectMapper.writeValueAsString(results), response);
+    }
+
     @SneakyThrows
     @Test
     void patch_correctRejectBooking() {
@@ -282,4 +366,118 @@ public class BookingControllerTests {
         verify(service, atMostOnce()).getBookingsOfUserItemsByState(userID, state, from, size);
         assertEquals(response, objectMapper.writeValueAsString(dtos));
     }
+
+    @SneakyThrows
+    @Test
+    void findBookingsOfUserInState_nextCursorHeader_whenPageFull() {
+        int userID = 64;
+        User user = User.builder().id(userID).name("Jo").email("j@i.jo").build();
+        Item item = Item.builder().id(74).owner(user).name("dollar").description("one dollar").available(true).build();
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 12, 0, 0);
+        List<OutcomeBookingDTO> dtos = List.of(OutcomeBookingDTO.builder()
+                .id(15)
+                .booker(UserMapper.userToShortUser(user))
+                .item(ItemMapper.itemToShortItem(item))
+                .start(start)
+                .end(start.plusDays(1))
+                .status(BookingStatus.WAITING)
+                .build());
+
+        when(service.getBookingsOfUserByState(userID, "ALL", 0, 1)).thenReturn(dtos);
+        String header = mvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", userID)
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(PageCursor.NEXT_CURSOR_HEADER);
+
+        assertEquals(PageCursor.of(start, 15).encode(), header);
+    }
+
+    @SneakyThrows
+    @Test
+    void findBookingsOfUserInState_correctGetting_withCursor() {
+        int userID = 64;
+        int size = 3;
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 12, 0, 0);
+        String cursor = PageCursor.of(start, 15).encode();
+
+        when(service.getBookingsOfUserAfterCursor(eq(userID), any(PageCursor.class), eq(size))).thenReturn(List.of());
+        String response = mvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", userID)
+                        .param("cursor", cursor)
+                        .param("size", String.valueOf(size)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        verify(service, never()).getBookingsOfUserByState(userID, "ALL", 0, size);
+        assertEquals("[]", response);
+    }
+
+    @SneakyThrows
+    @Test
+    void findBookingsOfUserInState_error_whenCursorWithStateNotAll() {
+        int userID = 64;
+        String cursor = PageCursor.of(LocalDateTime.of(2030, 1, 1, 12, 0, 0), 15).encode();
+
+        String response = mvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", userID)
+                        .param("state", "WAITING")
+                        .param("cursor", cursor))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsString();
+
+        verify(service, never()).getBookingsOfUserAfterCursor(anyInt(), any(PageCursor.class), anyInt());
+        assertEquals("{\"error\":\"Cursor pagination supported only for state ALL\"}", response);
+    }
+
+    @SneakyThrows
+    @Test
+    void findBookingsOfItemOwnerByState_error_whenCursorWithStateNotAll() {
+        int userID = 64;
+        String cursor = PageCursor.of(LocalDateTime.of(2030, 1, 1, 12, 0, 0), 15).encode();
+
+        mvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", userID)
+                        .param("state", "FUTURE")
+                        .param("cursor", cursor))
+                .andExpect(status().isBadRequest());
+
+        verify(service, never()).getBookingsOfUserItemsAfterCursor(anyInt(), any(PageCursor.class), anyInt());
+    }
+
+    @SneakyThrows
+    @Test
+    void findBookingsOfItemOwnerByState_error_whenCursorIncorrect() {
+        int userID = 64;
+
+        String response = mvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", userID)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals("{\"error\":\"Incorrect cursor not-a-cursor\"}", response);
+    }
+
+    @SneakyThrows
+    @Test
+    void findItemAvailability_correctGetting() {
+        int userID = 2;
+        int itemID = 9;
+        LocalDateTime start = LocalDateTime.of(2030, 1, 10, 12, 0);
+        LocalDateTime end = start.plusDays(7);
+        List<AvailabilitySlot> slots = List.of(
+                AvailabilitySlot.builder().start(start).end(start.plusDays(2)).free(true).build(),
+                AvailabilitySlot.builder().start(start.plusDays(2)).end(end).free(false).build());
+
+        when(service.getItemAvailability(userID, itemID, start, end)).thenReturn(slots);
+        String response = mvc.perform(get("/bookings/items/{itemID}/availability", itemID)
+                        .header("X-Sharer-User-Id", userID)
+                        .param("start", "2030-01-10T12:00:00")
+                        .param("end", "2030-01-17T12:00:00"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(objectMapper.writeValueAsString(slots), response);
+    }
 }
@@ -0,0 +1,135 @@
+package ru.practicum.shareit.booking;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DataJpaTest
+@Import(BookingQueryPlanTests.StatementRecorderConfig.class)
+public class BookingQueryPlanTests {
+    private static final Pageable PAGE = PageRequest.of(0, 10);
+    private static final LocalDateTime MOMENT = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private StatementRecorder statementRecorder;
+    @Autowired
+    private DataSource dataSource;
+
+    static Stream<Arguments> stateQueries() {
+        return Stream.of(
+                stateQuery("booker ALL", repository -> repository.findBookingsOfUserInStateALL(1, PAGE)),
+                stateQuery("booker ALL after cursor", repository ->
+                        repository.findBookingsOfUserInStateALLAfter(1, MOMENT, 1, PAGE)),
+                stateQuery("booker CURRENT", repository -> repository.findBookingsOfUserInStateCURRENT(1, MOMENT, PAGE)),
+                stateQuery("booker PAST", repository -> repository.findBookingsOfUserInStatePAST(1, MOMENT, PAGE)),
+                stateQuery("booker FUTURE", repository -> repository.findBookingsOfUserInStateFUTURE(1, MOMENT, PAGE)),
+                stateQuery("booker WAITING", repository -> repository.findBookingsOfUserInStateWAITING(1, MOMENT, PAGE)),
+                stateQuery("booker REJECTED", repository -> repository.findBookingsOfUserInStateREJECTED(1, PAGE)),
+                stateQuery("owner ALL", repository -> repository.findBookingsOfItemOwnerInStateALL(1, PAGE)),
+                stateQuery("owner ALL after cursor", repository ->
+                        repository.findBookingsOfItemOwnerInStateALLAfter(1, MOMENT, 1, PAGE)),
+                stateQuery("owner CURRENT", repository ->
+                        repository.findBookingsOfItemOwnerInStateCURRENT(1, MOMENT, PAGE)),
+                stateQuery("owner PAST", repository -> repository.findBookingsOfItemOwnerInStatePAST(1, MOMENT, PAGE)),
+                stateQuery("owner FUTURE", repository ->
+                        repository.findBookingsOfItemOwnerInStateFUTURE(1, MOMENT, PAGE)),
+                stateQuery("owner WAITING", repository ->
+                        repository.findBookingsOfItemOwnerInStateWAITING(1, MOMENT, PAGE)),
+                stateQuery("owner REJECTED", repository -> repository.findBookingsOfItemOwnerInStateREJECTED(1, PAGE)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("stateQueries")
+    void stateQuery_usesIndex_insteadOfTableScan(String state, Consumer<BookingRepository> query) throws SQLException {
+        statementRecorder.start();
+        query.accept(bookingRepository);
+        List<String> statements = statementRecorder.stop();
+
+        assertEquals(1, statements.size(), statements.toString());
+        String plan = explain(statements.get(0));
+        assertFalse(plan.contains(".tableScan"), plan);
+    }
+
+    private String explain(String sql) throws SQLException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+            for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet result = statement.executeQuery()) {
+                result.next();
+                return result.getString(1);
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static Arguments stateQuery(String state, Consumer<BookingRepository> query) {
+        return Arguments.of(state, query);
+    }
+
+    static class StatementRecorder implements StatementInspector {
+        private final ThreadLocal<List<String>> statements = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            List<String> recorded = statements.get();
+            if (recorded != null) {
+                recorded.add(sql);
+            }
+            return sql;
+        }
+
+        void start() {
+            statements.set(new ArrayList<>());
+        }
+
+        List<String> stop() {
+            List<String> recorded = statements.get();
+            statements.remove();
+            return recorded;
+        }
+    }
+
+    @TestConfiguration
+    static class StatementRecorderConfig {
+        @Bean
+        StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementRecorderCustomizer(StatementRecorder statementRecorder) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementRecorder);
+        }
+    }
+}
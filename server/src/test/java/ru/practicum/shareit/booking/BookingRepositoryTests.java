@@ -14,8 +14,10 @@ import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -510,6 +512,86 @@ public class BookingRepositoryTests {
         assertEquals(secondBooking.getStatus(), bookings.get(0).getStatus());
     }
 
+    @Test
+    void findBookingsOfUserInStateALLAfter_seekPastCursor_orderByStartAndIdDesc() {
+        Pageable pageable = PageRequest.of(0, 5);
+        LocalDateTime start = LocalDateTime.now().withNano(0);
+        User owner = userRepository.save(User.builder().name("Jo").email("j@i.jo").build());
+        User booker = userRepository.save(User.builder().name("Leo").email("l@e.o").build());
+        Item item = itemRepository.save(Item.builder().owner(owner).name("dollar").description("one dollar").available(true).build());
+        Booking firstBooking = bookingRepository.save(Booking.builder()
+                .booker(booker)
+                .item(item)
+                .start(start.minusDays(2))
+                .end(start.minusDays(1))
+                .status(BookingStatus.WAITING)
+                .build());
+        Booking secondBooking = bookingRepository.save(Booking.builder()
+                .booker(booker)
+                .item(item)
+                .start(start)
+                .end(start.plusDays(1))
+                .status(BookingStatus.WAITING)
+                .build());
+        Booking thirdBooking = bookingRepository.save(Booking.builder()
+                .booker(booker)
+                .item(item)
+                .start(start)
+                .end(start.plusDays(2))
+                .status(BookingStatus.WAITING)
+                .build());
+
+        List<Booking> bookings = bookingRepository.findBookingsOfUserInStateALLAfter(booker.getId(),
+                thirdBooking.getStart(), thirdBooking.getId(), pageable);
+        assertEquals(2, bookings.size());
+        assertEquals(secondBooking.getId(), bookings.get(0).getId());
+        assertEquals(firstBooking.getId(), bookings.get(1).getId());
+    }
+
+    @Test
+    void findBookingsOfItemOwnerInStateALLAfter_seekPastCursor() {
+        Pageable pageable = PageRequest.of(0, 1);
+        LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        User owner = userRepository.save(User.builder().name("Jo").email("j@i.jo").build());
+        User booker = userRepository.save(User.builder().name("Leo").email("l@e.o").build());
+        Item item = itemRepository.save(Item.builder().owner(owner).name("dollar").description("one dollar").available(true).build());
+        Booking firstBooking = bookingRepository.save(Booking.builder()
+                .booker(booker)
+                .item(item)
+                .start(start.minusDays(2))
+                .end(start.minusDays(1))
+                .status(BookingStatus.WAITING)
+                .build());
+        Booking secondBooking = bookingRepository.save(Booking.builder()
+                .booker(booker)
+                .item(item)
+                .start(start)
+                .end(start.plusDays(1))
+                .status(BookingStatus.WAITING)
+                .build());
+
+        List<Booking> bookings = bookingRepository.findBookingsOfItemOwnerInStateALLAfter(owner.getId(),
+                secondBooking.getStart(), secondBooking.getId(), pageable);
+        assertEquals(1, bookings.size());
+        assertEquals(firstBooking.getId(), bookings.get(0).getId());
+    }
+
+    @Test
+    void save_fillsItemOwnerID() {
+        User owner = userRepository.save(User.builder().name("Jo").email("j@i.jo").build());
+        User booker = userRepository.save(User.builder().name("Leo").email("l@e.o").build());
+        Item item = itemRepository.save(Item.builder().owner(owner).name("dollar").description("one dollar").available(true).build());
+        Booking booking = bookingRepository.save(Booking.builder()
+                .booker(booker)
+                .item(item)
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .status(BookingStatus.WAITING)
+                .build());
+
+        assertEquals(owner.getId(), booking.getItemOwnerId());
+    }
+
     @Test
     void findBookingsOfItemOwnerInStateALL_emptyWhenNothingFounded() {
         Pageable pageable = PageRequest.of(0, 5);
@@ -991,7 +1073,7 @@ public class BookingRepositoryTests {
     }
 
     @Test
-    void findPreviousItemBooking_emptyWhenNothingFounded() {
+    void findPreviousAndNextBookingsOfItems_emptyWhenNothingFounded() {
         User owner = userRepository.save(User.builder().name("Jo").email("j@i.jo").build());
         User booker = userRepository.save(User.builder().name("Leo").email("l@e.o").build());
         Item item = itemRepository.save(Item.builder().owner(owner).name("dollar").description("one dollar").available(true).build());
@@ -1003,83 +1085,63 @@ public class BookingRepositoryTests {
                 .status(BookingStatus.REJECTED)
                 .build());
 
-        Optional<Booking> book = bookingRepository.findPreviousItemBooking(item.getId(), LocalDateTime.now());
-        assertTrue(book.isEmpty());
+        List<Booking> bookings = bookingRepository.findPreviousAndNextBookingsOfItems(List.of(item.getId()), LocalDateTime.now());
+        assertEquals(0, bookings.size());
     }
 
     @Test
-    void findPreviousItemBooking_foundLast_whenNotOneBookingFounded() {
+    void findPreviousAndNextBookingsOfItems_foundClosest_forEveryItem() {
         User owner = userRepository.save(User.builder().name("Jo").email("j@i.jo").build());
         User booker = userRepository.save(User.builder().name("Leo").email("l@e.o").build());
-        Item item = itemRepository.save(Item.builder().owner(owner).name("dollar").description("one dollar").available(true).build());
-        Booking firstBooking = bookingRepository.save(Booking.builder()
+        Item firstItem = itemRepository.save(Item.builder().owner(owner).name("dollar").description("one dollar").available(true).build());
+        Item secondItem = itemRepository.save(Item.builder().owner(owner).name("euro").description("one euro").available(true).build());
+        bookingRepository.save(Booking.builder()
                 .booker(booker)
-                .item(item)
-                .start(LocalDateTime.now().minusDays(3))
-                .end(LocalDateTime.now().minusDays(2))
+                .item(firstItem)
+                .start(LocalDateTime.now().minusDays(5))
+                .end(LocalDateTime.now().minusDays(4))
                 .status(BookingStatus.APPROVED)
                 .build());
-        Booking secondBooking = bookingRepository.save(Booking.builder()
+        Booking firstLast = bookingRepository.save(Booking.builder()
                 .booker(booker)
-                .item(item)
-                .start(LocalDateTime.now().minusDays(1))
-                .end(LocalDateTime.now().plusDays(1))
+                .item(firstItem)
+                .start(LocalDateTime.now().minusDays(2))
+                .end(LocalDateTime.now().minusDays(1))
                 .status(BookingStatus.APPROVED)
                 .build());
-
-        Optional<Booking> book = bookingRepository.findPreviousItemBooking(item.getId(), LocalDateTime.now());
-        assertFalse(book.isEmpty());
-        assertEquals(secondBooking.getId(), book.get().getId());
-        assertEquals(secondBooking.getBooker().getName(), book.get().getBooker().getName());
-        assertEquals(secondBooking.getItem().getName(), book.get().getItem().getName());
-        assertEquals(secondBooking.getStart(), book.get().getStart());
-        assertEquals(secondBooking.getEnd(), book.get().getEnd());
-    }
-
-    @Test
-    void findNextItemBooking_emptyWhenNothingFounded() {
-        User owner = userRepository.save(User.builder().name("Jo").email("j@i.jo").build());
-        User booker = userRepository.save(User.builder().name("Leo").email("l@e.o").build());
-        Item item = itemRepository.save(Item.builder().owner(owner).name("dollar").description("one dollar").available(true).build());
-        Booking booking = bookingRepository.save(Booking.builder()
-                .booker(booker)
-                .item(item)
-                .start(LocalDateTime.now().plusDays(3))
-                .end(LocalDateTime.now().plusDays(4))
-                .status(BookingStatus.REJECTED)
-                .build());
-
-        Optional<Booking> book = bookingRepository.findNextItemBooking(item.getId(), LocalDateTime.now());
-        assertTrue(book.isEmpty());
-    }
-
-    @Test
-    void findNextItemBooking_foundLast_whenNotOneBookingFounded() {
-        User owner = userRepository.save(User.builder().name("Jo").email("j@i.jo").build());
-        User booker = userRepository.save(User.builder().name("Leo").email("l@e.o").build());
-        Item item = itemRepository.save(Item.builder().owner(owner).name("dollar").description("one dollar").available(true).build());
-        Booking firstBooking = bookingRepository.save(Booking.builder()
+        Booking firstNext = bookingRepository.save(Booking.builder()
                 .booker(booker)
-                .item(item)
+                .item(firstItem)
                 .start(LocalDateTime.now().plusDays(1))
                 .end(LocalDateTime.now().plusDays(2))
                 .status(BookingStatus.APPROVED)
                 .build());
-        Booking secondBooking = bookingRepository.save(Booking.builder()
+        bookingRepository.save(Booking.builder()
                 .booker(booker)
-                .item(item)
+                .item(firstItem)
                 .start(LocalDateTime.now().plusDays(3))
                 .end(LocalDateTime.now().plusDays(4))
                 .status(BookingStatus.APPROVED)
                 .build());
+        Booking secondNext = bookingRepository.save(Booking.builder()
+                .booker(booker)
+                .item(secondItem)
+                .start(LocalDateTime.now().plusDays(6))
+                .end(LocalDateTime.now().plusDays(7))
+                .status(BookingStatus.APPROVED)
+                .build());
+        bookingRepository.save(Booking.builder()
+                .booker(booker)
+                .item(secondItem)
+                .start(LocalDateTime.now().plusDays(2))
+                .end(LocalDateTime.now().plusDays(3))
+                .status(BookingStatus.WAITING)
+                .build());
 
-        Optional<Booking> book = bookingRepository.findNextItemBooking(item.getId(), LocalDateTime.now());
-        assertFalse(book.isEmpty());
-        assertEquals(firstBooking.getId(), book.get().getId());
-        assertEquals(firstBooking.getBooker().getName(), book.get().getBooker().getName());
-        assertEquals(firstBooking.getItem().getName(), book.get().getItem().getName());
-        assertEquals(firstBooking.getStart(), book.get().getStart());
-        assertEquals(firstBooking.getEnd(), book.get().getEnd());
+        List<Booking> bookings = bookingRepository.findPreviousAndNextBookingsOfItems(
+                List.of(firstItem.getId(), secondItem.getId()), LocalDateTime.now());
+        List<Integer> ids = bookings.stream().map(Booking::getId).sorted().collect(Collectors.toList());
+        assertEquals(List.of(firstLast.getId(), firstNext.getId(), secondNext.getId()), ids);
     }
 
     @Test
@@ -1166,4 +1228,32 @@ public class BookingRepositoryTests {
         assertEquals(booking.getStart(), book.get().getStart());
         assertEquals(booking.getEnd(), book.get().getEnd());
     }
+
+    @Test
+    void existsApprovedBookingOfItemInPeriod_onlyForOverlappingApprovedBookings() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 10, 12, 0);
+        User owner = userRepository.save(User.builder().name("Jo").email("j@i.jo").build());
+        User booker = userRepository.save(User.builder().name("Leo").email("l@e.o").build());
+        Item item = itemRepository.save(Item.builder().owner(owner).name("dollar").description("one dollar").available(true).build());
+        Booking approved = bookingRepository.save(Booking.builder()
+                .booker(booker)
+                .item(item)
+                .start(start)
+                .end(start.plusDays(2))
+                .status(BookingStatus.APPROVED)
+                .build());
+        bookingRepository.save(Booking.builder()
+                .booker(booker)
+                .item(item)
+                .start(start.plusDays(4))
+                .end(start.plusDays(6))
+                .status(BookingStatus.WAITING)
+                .build());
+
+        assertTrue(bookingRepository.existsApprovedBookingOfItemInPeriod(item.getId(), start.plusDays(1), start.plusDays(3), 0));
+        assertTrue(bookingRepository.existsApprovedBookingOfItemInPeriod(item.getId(), start.minusDays(1), start.plusDays(3), 0));
+        assertFalse(bookingRepository.existsApprovedBookingOfItemInPeriod(item.getId(), start.plusDays(2), start.plusDays(3), 0));
+        assertFalse(bookingRepository.existsApprovedBookingOfItemInPeriod(item.getId(), start.plusDays(5), start.plusDays(7), 0));
+        assertFalse(bookingRepository.existsApprovedBookingOfItemInPeriod(item.getId(), start, start.plusDays(2), approved.getId()));
+    }
 }
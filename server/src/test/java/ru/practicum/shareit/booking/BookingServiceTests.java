@@ -2,25 +2,33 @@ package ru.practicum.shareit.booking;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.PageCursor;
 import ru.practicum.shareit.Paginator;
 import ru.practicum.shareit.booking.dto.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingStatusChangeResult;
+import ru.practicum.shareit.booking.dto.BulkBookingResult;
 import ru.practicum.shareit.booking.dto.IncomeBookingDTO;
 import ru.practicum.shareit.booking.dto.OutcomeBookingDTO;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.booking.service.BookingServiceImpl;
+import ru.practicum.shareit.booking.service.ItemBookingIndex;
 import ru.practicum.shareit.exceptions.BookingNotFoundException;
+import ru.practicum.shareit.exceptions.BookingOverlapException;
 import ru.practicum.shareit.exceptions.BookingValidationException;
+import ru.practicum.shareit.exceptions.CursorValidationException;
 import ru.practicum.shareit.exceptions.IncorrectBookingApproverException;
 import ru.practicum.shareit.exceptions.IncorrectOwnerInBookingException;
 import ru.practicum.shareit.exceptions.ItemNotFoundException;
 import ru.practicum.shareit.exceptions.UserNotFoundException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemSummaryUpdater;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
@@ -28,10 +36,14 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atMostOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,6 +55,10 @@ public class BookingServiceTests {
     private ItemRepository itemRepository;
     @Mock
     private BookingRepository bookingRepository;
+    @Mock
+    private ItemBookingIndex bookingIndex;
+    @Mock
+    private ItemSummaryUpdater summaryUpdater;
     @InjectMocks
     private BookingServiceImpl service;
 
@@ -52,7 +68,7 @@ public class BookingServiceTests {
         int itemID = 12;
         IncomeBookingDTO incomeDTO = IncomeBookingDTO.builder().start(LocalDateTime.now().plusDays(1)).end(LocalDateTime.now().plusDays(2)).itemId(itemID).build();
 
-        when(userRepository.existsById(userID)).thenReturn(false);
+        when(userRepository.findById(userID)).thenReturn(Optional.empty());
         UserNotFoundException exception = assertThrows(UserNotFoundException.class,
                 () -> service.addBooking(userID, incomeDTO));
 
@@ -65,8 +81,8 @@ public class BookingServiceTests {
         int itemID = 54;
         IncomeBookingDTO incomeDTO = IncomeBookingDTO.builder().start(LocalDateTime.now().plusDays(1)).end(LocalDateTime.now().plusDays(2)).itemId(itemID).build();
 
-        when(userRepository.existsById(userID)).thenReturn(true);
-        when(itemRepository.existsById(itemID)).thenReturn(false);
+        when(userRepository.findById(userID)).thenReturn(Optional.of(User.builder().id(userID).name("Jo").email("j@i.jo").build()));
+        when(itemRepository.findById(itemID)).thenReturn(Optional.empty());
         ItemNotFoundException exception = assertThrows(ItemNotFoundException.class,
                 () -> service.addBooking(userID, incomeDTO));
 
@@ -81,8 +97,7 @@ public class BookingServiceTests {
         Item item = Item.builder().id(itemID).owner(owner).name("dollar").description("one dollar").available(false).build();
         IncomeBookingDTO incomeDTO = IncomeBookingDTO.builder().start(LocalDateTime.now().plusDays(1)).end(LocalDateTime.now().plusDays(2)).itemId(itemID).build();
 
-        when(userRepository.existsById(userID)).thenReturn(true);
-        when(itemRepository.existsById(itemID)).thenReturn(true);
+        when(userRepository.findById(userID)).thenReturn(Optional.of(owner));
         when(itemRepository.findById(itemID)).thenReturn(Optional.of(item));
         BookingValidationException exception = assertThrows(BookingValidationException.class,
                 () -> service.addBooking(userID, incomeDTO));
@@ -98,8 +113,6 @@ public class BookingServiceTests {
         Item item = Item.builder().id(itemID).owner(owner).name("dollar").description("one dollar").available(true).build();
         IncomeBookingDTO incomeDTO = IncomeBookingDTO.builder().start(LocalDateTime.now().plusDays(1)).end(LocalDateTime.now().plusDays(2)).itemId(itemID).build();
 
-        when(userRepository.existsById(userID)).thenReturn(true);
-        when(itemRepository.existsById(itemID)).thenReturn(true);
         when(itemRepository.findById(itemID)).thenReturn(Optional.of(item));
         when(userRepository.findById(userID)).thenReturn(Optional.of(owner));
         IncorrectOwnerInBookingException exception = assertThrows(IncorrectOwnerInBookingException.class,
@@ -117,8 +130,6 @@ public class BookingServiceTests {
         Item item = Item.builder().id(itemID).owner(owner).name("dollar").description("one dollar").available(true).build();
         IncomeBookingDTO incomeDTO = IncomeBookingDTO.builder().start(LocalDateTime.now().plusDays(1)).end(LocalDateTime.now().plusDays(2)).itemId(itemID).build();
 
-        when(userRepository.existsById(userID)).thenReturn(true);
-        when(itemRepository.existsById(itemID)).thenReturn(true);
         when(itemRepository.findById(itemID)).thenReturn(Optional.of(item));
         when(userRepository.findById(userID)).thenReturn(Optional.of(booker));
         OutcomeBookingDTO dto = service.addBooking(userID, incomeDTO);
@@ -130,6 +141,89 @@ public class BookingServiceTests {
         assertEquals(dto.getStatus(), BookingStatus.WAITING);
     }
 
+    @Test
+    void addBooking_exception_whenOverlapsApprovedBooking() {
+        int userID = 83;
+        int itemID = 54;
+        User owner = User.builder().id(74).name("Jo").email("j@i.jo").build();
+        User booker = User.builder().id(userID).name("Jo").email("j@i.jo").build();
+        Item item = Item.builder().id(itemID).owner(owner).name("dollar").description("one dollar").available(true).build();
+        IncomeBookingDTO incomeDTO = IncomeBookingDTO.builder().start(LocalDateTime.now().plusDays(1)).end(LocalDateTime.now().plusDays(2)).itemId(itemID).build();
+
+        when(itemRepository.findById(itemID)).thenReturn(Optional.of(item));
+        when(userRepository.findById(userID)).thenReturn(Optional.of(booker));
+        when(bookingIndex.hasApprovedOverlap(itemID, incomeDTO.getStart(), incomeDTO.getEnd())).thenReturn(true);
+        when(bookingRepository.existsApprovedBookingOfItemInPeriod(itemID, incomeDTO.getStart(), incomeDTO.getEnd(), 0))
+                .thenReturn(true);
+        BookingOverlapException exception = assertThrows(BookingOverlapException.class,
+                () -> service.addBooking(userID, incomeDTO));
+
+        verify(bookingRepository, never()).save(any());
+        assertEquals("Item with ID 54 already booked from " + incomeDTO.getStart() + " to " + incomeDTO.getEnd(),
+                exception.getMessage());
+    }
+
+    @Test
+    void addBooking_correctAdding_whenIndexOverlapNotConfirmedByDatabase() {
+        int userID = 83;
+        int itemID = 54;
+        User owner = User.builder().id(74).name("Jo").email("j@i.jo").build();
+        User booker = User.builder().id(userID).name("Jo").email("j@i.jo").build();
+        Item item = Item.builder().id(itemID).owner(owner).name("dollar").description("one dollar").available(true).build();
+        IncomeBookingDTO incomeDTO = IncomeBookingDTO.builder().start(LocalDateTime.now().plusDays(1)).end(LocalDateTime.now().plusDays(2)).itemId(itemID).build();
+
+        when(itemRepository.findById(itemID)).thenReturn(Optional.of(item));
+        when(userRepository.findById(userID)).thenReturn(Optional.of(booker));
+        when(bookingIndex.hasApprovedOverlap(itemID, incomeDTO.getStart(), incomeDTO.getEnd())).thenReturn(true);
+        when(bookingRepository.existsApprovedBookingOfItemInPeriod(itemID, incomeDTO.getStart(), incomeDTO.getEnd(), 0))
+                .thenReturn(false);
+        OutcomeBookingDTO dto = service.addBooking(userID, incomeDTO);
+
+        assertEquals(dto.getStatus(), BookingStatus.WAITING);
+    }
+
+    @Test
+    void addBookings_resultForEachBooking_whenSomeBookingsInvalid() {
+        int userID = 83;
+        User owner = User.builder().id(74).name("Jo").email("j@i.jo").build();
+        User booker = User.builder().id(userID).name("Leo").email("l@e.o").build();
+        Item item = Item.builder().id(54).owner(owner).name("dollar").description("one dollar").available(true).build();
+        Item unavailable = Item.builder().id(55).owner(owner).name("euro").description("one euro").available(false).build();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<IncomeBookingDTO> dtos = List.of(
+                IncomeBookingDTO.builder().start(start).end(start.plusDays(1)).itemId(54).build(),
+                IncomeBookingDTO.builder().start(start).end(start.plusDays(1)).itemId(55).build(),
+                IncomeBookingDTO.builder().start(start).end(start.plusDays(1)).itemId(99).build(),
+                IncomeBookingDTO.builder().start(start.plusDays(2)).end(start.plusDays(3)).itemId(54).build());
+
+        when(userRepository.findById(userID)).thenReturn(Optional.of(booker));
+        when(itemRepository.findAllById(Set.of(54, 55, 99))).thenReturn(List.of(item, unavailable));
+        List<BulkBookingResult> results = service.addBookings(userID, dtos);
+
+        verify(itemRepository, never()).findById(any());
+        verify(bookingRepository, atMostOnce()).saveAll(any());
+        assertEquals(4, results.size());
+        assertEquals(54, results.get(0).getBooking().getItem().getId());
+        assertEquals(BookingStatus.WAITING, results.get(0).getBooking().getStatus());
+        assertEquals("Item with ID 55 unavailable for booking", results.get(1).getError());
+        assertEquals("Item with ID 99 not present", results.get(2).getError());
+        assertEquals(dtos.get(3).getStart(), results.get(3).getBooking().getStart());
+    }
+
+    @Test
+    void addBookings_exception_whenUserNotPresent() {
+        int userID = 5;
+        List<IncomeBookingDTO> dtos = List.of(IncomeBookingDTO.builder()
+                .start(LocalDateTime.now().plusDays(1)).end(LocalDateTime.now().plusDays(2)).itemId(12).build());
+
+        when(userRepository.findById(userID)).thenReturn(Optional.empty());
+        UserNotFoundException exception = assertThrows(UserNotFoundException.class,
+                () -> service.addBookings(userID, dtos));
+
+        verify(bookingRepository, never()).saveAll(any());
+        assertEquals("User with ID 5 not present", exception.getMessage());
+    }
+
     @Test
     void changeBookingStatus_exception_whenUserNotPresent() {
         int userID = 43;
@@ -148,7 +242,7 @@ public class BookingServiceTests {
         int bookingID = 86;
 
         when(userRepository.existsById(userID)).thenReturn(true);
-        when(bookingRepository.existsById(bookingID)).thenReturn(false);
+        when(bookingRepository.findById(bookingID)).thenReturn(Optional.empty());
         BookingNotFoundException exception = assertThrows(BookingNotFoundException.class,
                 () -> service.changeBookingStatus(userID, bookingID, true));
 
@@ -172,7 +266,6 @@ public class BookingServiceTests {
                 .build();
 
         when(userRepository.existsById(userID)).thenReturn(true);
-        when(bookingRepository.existsById(bookingID)).thenReturn(true);
         when(bookingRepository.findById(bookingID)).thenReturn(Optional.of(booking));
         IncorrectBookingApproverException exception = assertThrows(IncorrectBookingApproverException.class,
                 () -> service.changeBookingStatus(userID, bookingID, true));
@@ -197,7 +290,6 @@ public class BookingServiceTests {
                 .build();
 
         when(userRepository.existsById(userID)).thenReturn(true);
-        when(bookingRepository.existsById(bookingID)).thenReturn(true);
         when(bookingRepository.findById(bookingID)).thenReturn(Optional.of(booking));
         BookingValidationException exception = assertThrows(BookingValidationException.class,
                 () -> service.changeBookingStatus(userID, bookingID, true));
@@ -222,10 +314,11 @@ public class BookingServiceTests {
                 .build();
 
         when(userRepository.existsById(userID)).thenReturn(true);
-        when(bookingRepository.existsById(bookingID)).thenReturn(true);
         when(bookingRepository.findById(bookingID)).thenReturn(Optional.of(booking));
         OutcomeBookingDTO dto = service.changeBookingStatus(userID, bookingID, true);
 
+        verify(bookingIndex).approved(booking);
+        verify(summaryUpdater).bookingsApproved(List.of(item.getId()));
         assertEquals(dto.getStatus(), BookingStatus.APPROVED);
         assertEquals(booking.getStart(), dto.getStart());
         assertEquals(booking.getEnd(), dto.getEnd());
@@ -234,7 +327,38 @@ public class BookingServiceTests {
     }
 
     @Test
-    void changeBookingStatus_correctRejected() {
+    void changeBookingStatus_exception_whenOverlapsApprovedBooking() {
+        int userID = 45;
+        int bookingID = 86;
+        User owner = User.builder().id(userID).name("Jo").email("j@i.jo").build();
+        User booker = User.builder().id(96).name("Jo").email("j@i.jo").build();
+        Item item = Item.builder().id(63).owner(owner).name("dollar").description("one dollar").available(true).build();
+        Booking booking = Booking.builder()
+                .id(bookingID)
+                .booker(booker)
+                .item(item)
+                .status(BookingStatus.WAITING)
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .build();
+
+        when(userRepository.existsById(userID)).thenReturn(true);
+        when(bookingRepository.findById(bookingID)).thenReturn(Optional.of(booking));
+        when(bookingRepository.existsApprovedBookingOfItemInPeriod(63, booking.getStart(), booking.getEnd(), bookingID))
+                .thenReturn(true);
+        assertThrows(BookingOverlapException.class,
+                () -> service.changeBookingStatus(userID, bookingID, true));
+
+        InOrder inOrder = inOrder(itemRepository, bookingRepository);
+        inOrder.verify(itemRepository).findAllOfOwnerBookingsForUpdate(userID, List.of(bookingID));
+        inOrder.verify(bookingRepository).findById(bookingID);
+        verify(bookingRepository, never()).save(any());
+        verify(bookingIndex, never()).approved(any());
+        assertEquals(BookingStatus.WAITING, booking.getStatus());
+    }
+
+    @Test
+    void changeBookingStatus_itemLockedBeforeBookingRead_whenRejecting() {
         int userID = 45;
         int bookingID = 86;
         User owner = User.builder().id(userID).name("Jo").email("j@i.jo").build();
@@ -250,10 +374,12 @@ public class BookingServiceTests {
                 .build();
 
         when(userRepository.existsById(userID)).thenReturn(true);
-        when(bookingRepository.existsById(bookingID)).thenReturn(true);
         when(bookingRepository.findById(bookingID)).thenReturn(Optional.of(booking));
         OutcomeBookingDTO dto = service.changeBookingStatus(userID, bookingID, false);
 
+        InOrder inOrder = inOrder(itemRepository, bookingRepository);
+        inOrder.verify(itemRepository).findAllOfOwnerBookingsForUpdate(userID, List.of(bookingID));
+        inOrder.verify(bookingRepository).findById(bookingID);
         assertEquals(dto.getStatus(), BookingStatus.REJECTED);
         assertEquals(booking.getStart(), dto.getStart());
         assertEquals(booking.getEnd(), dto.getEnd());
@@ -261,6 +387,79 @@ public class BookingServiceTests {
         assertEquals(booking.getItem().getName(), dto.getItem().getName());
     }
 
+    @Test
+    void changeBookingsStatus_resultForEachID_whenApproving() {
+        int userID = 45;
+        User owner = User.builder().id(userID).name("Jo").email("j@i.jo").build();
+        User otherOwner = User.builder().id(46).name("Leo").email("l@e.o").build();
+        User booker = User.builder().id(96).name("Jo").email("j@i.jo").build();
+        Item item = Item.builder().id(63).owner(owner).name("dollar").description("one dollar").available(true).build();
+        Item otherItem = Item.builder().id(64).owner(otherOwner).name("euro").description("one euro").available(true).build();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Booking waiting = Booking.builder().id(1).booker(booker).item(item).status(BookingStatus.WAITING)
+                .start(start).end(start.plusDays(1)).build();
+        Booking overlapping = Booking.builder().id(2).booker(booker).item(item).status(BookingStatus.WAITING)
+                .start(start.plusHours(12)).end(start.plusDays(2)).build();
+        Booking ofOtherOwner = Booking.builder().id(3).booker(booker).item(otherItem).status(BookingStatus.WAITING)
+                .start(start).end(start.plusDays(1)).build();
+        Booking approved = Booking.builder().id(5).booker(booker).item(item).status(BookingStatus.APPROVED)
+                .start(start.plusDays(10)).end(start.plusDays(11)).build();
+
+        when(userRepository.existsById(userID)).thenReturn(true);
+        when(bookingRepository.findBookingsWithItemAndBookerByIDs(Set.of(1, 2, 3, 4, 5)))
+                .thenReturn(List.of(waiting, overlapping, ofOtherOwner, approved));
+        when(itemRepository.findAllOfOwnerBookingsForUpdate(userID, Set.of(1, 2, 3, 4, 5))).thenReturn(List.of(item));
+        when(bookingRepository.findApprovedBookingsOfItems(Set.of(63))).thenReturn(List.of(approved));
+        List<BookingStatusChangeResult> results = service.changeBookingsStatus(userID, List.of(1, 2, 3, 4, 5, 1), true);
+
+        InOrder inOrder = inOrder(itemRepository, bookingRepository);
+        inOrder.verify(itemRepository).findAllOfOwnerBookingsForUpdate(userID, Set.of(1, 2, 3, 4, 5));
+        inOrder.verify(bookingRepository).findBookingsWithItemAndBookerByIDs(Set.of(1, 2, 3, 4, 5));
+        assertEquals(BookingStatus.APPROVED, waiting.getStatus());
+        assertEquals(BookingStatus.WAITING, overlapping.getStatus());
+        assertEquals(BookingStatus.WAITING, ofOtherOwner.getStatus());
+        verify(bookingIndex).approved(waiting);
+        verify(summaryUpdater).bookingsApproved(Set.of(63));
+        verify(bookingRepository, never()).save(any());
+        assertEquals(5, results.size());
+        assertEquals(BookingStatus.APPROVED, results.get(0).getBooking().getStatus());
+        assertEquals("Item with ID 63 already booked from " + overlapping.getStart() + " to " + overlapping.getEnd(),
+                results.get(1).getError());
+        assertEquals("User with ID 45 not owner of booked item", results.get(2).getError());
+        assertEquals("Booking with ID 4 not present", results.get(3).getError());
+        assertEquals(5, results.get(4).getBookingId());
+        assertEquals("Booking with ID 5 already approved", results.get(4).getError());
+    }
+
+    @Test
+    void changeBookingsStatus_itemsLockedBeforeBookingsRead_whenRejecting() {
+        int userID = 45;
+        User owner = User.builder().id(userID).name("Jo").email("j@i.jo").build();
+        User booker = User.builder().id(96).name("Jo").email("j@i.jo").build();
+        Item item = Item.builder().id(63).owner(owner).name("dollar").description("one dollar").available(true).build();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Booking first = Booking.builder().id(1).booker(booker).item(item).status(BookingStatus.WAITING)
+                .start(start).end(start.plusDays(1)).build();
+        Booking second = Booking.builder().id(2).booker(booker).item(item).status(BookingStatus.WAITING)
+                .start(start).end(start.plusDays(1)).build();
+
+        when(userRepository.existsById(userID)).thenReturn(true);
+        when(itemRepository.findAllOfOwnerBookingsForUpdate(userID, Set.of(1, 2))).thenReturn(List.of(item));
+        when(bookingRepository.findBookingsWithItemAndBookerByIDs(Set.of(1, 2))).thenReturn(List.of(first, second));
+        List<BookingStatusChangeResult> results = service.changeBookingsStatus(userID, List.of(1, 2), false);
+
+        InOrder inOrder = inOrder(itemRepository, bookingRepository);
+        inOrder.verify(itemRepository).findAllOfOwnerBookingsForUpdate(userID, Set.of(1, 2));
+        inOrder.verify(bookingRepository).findBookingsWithItemAndBookerByIDs(Set.of(1, 2));
+        verify(bookingRepository, never()).findApprovedBookingsOfItems(any());
+        assertEquals(BookingStatus.REJECTED, first.getStatus());
+        assertEquals(BookingStatus.REJECTED, second.getStatus());
+        verify(bookingIndex, never()).approved(any());
+        verify(summaryUpdater, never()).bookingsApproved(any());
+        assertEquals(BookingStatus.REJECTED, results.get(0).getBooking().getStatus());
+        assertEquals(BookingStatus.REJECTED, results.get(1).getBooking().getStatus());
+    }
+
     @Test
     void getBookingByID_exception_whenUserNotPresent() {
         int userID = 123;
@@ -279,7 +478,7 @@ public class BookingServiceTests {
         int bookingID = 826;
 
         when(userRepository.existsById(userID)).thenReturn(true);
-        when(bookingRepository.existsById(bookingID)).thenReturn(false);
+        when(bookingRepository.findById(bookingID)).thenReturn(Optional.empty());
         BookingNotFoundException exception = assertThrows(BookingNotFoundException.class,
                 () -> service.getBookingByID(userID, bookingID));
 
@@ -303,7 +502,6 @@ public class BookingServiceTests {
                 .build();
 
         when(userRepository.existsById(userID)).thenReturn(true);
-        when(bookingRepository.existsById(bookingID)).thenReturn(true);
         when(bookingRepository.findById(bookingID)).thenReturn(Optional.of(booking));
         IncorrectOwnerInBookingException exception = assertThrows(IncorrectOwnerInBookingException.class,
                 () -> service.getBookingByID(userID, bookingID));
@@ -328,7 +526,6 @@ public class BookingServiceTests {
                 .build();
 
         when(userRepository.existsById(userID)).thenReturn(true);
-        when(bookingRepository.existsById(bookingID)).thenReturn(true);
         when(bookingRepository.findById(bookingID)).thenReturn(Optional.of(booking));
         OutcomeBookingDTO dto = service.getBookingByID(userID, bookingID);
 
@@ -772,4 +969,69 @@ public class BookingServiceTests {
         assertEquals(booking.getItem().getName(), dtos.get(0).getItem().getName());
         assertEquals(booking.getBooker().getName(), dtos.get(0).getBooker().getName());
     }
+
+    @Test
+    void getBookingsOfUserAfterCursor_correctGetting() {
+        int userID = 741;
+        int size = 5;
+        LocalDateTime start = LocalDateTime.now().plusDays(3);
+        PageCursor cursor = PageCursor.of(start, 20);
+        User owner = User.builder().id(74).name("Jo").email("j@i.jo").build();
+        User booker = User.builder().id(userID).name("Jo").email("j@i.jo").build();
+        Item item = Item.builder().id(63).owner(owner).name("dollar").description("one dollar").available(true).build();
+        Booking booking = Booking.builder()
+                .id(14)
+                .booker(booker)
+                .item(item)
+                .status(BookingStatus.WAITING)
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .build();
+
+        when(userRepository.existsById(userID)).thenReturn(true);
+        when(bookingRepository.findBookingsOfUserInStateALLAfter(userID, start, 20, new Paginator(0, size)))
+                .thenReturn(List.of(booking));
+        List<OutcomeBookingDTO> dtos = service.getBookingsOfUserAfterCursor(userID, cursor, size);
+
+        assertEquals(1, dtos.size());
+        assertEquals(booking.getId(), dtos.get(0).getId());
+    }
+
+    @Test
+    void getBookingsOfUserItemsAfterCursor_exception_whenCursorWithoutStart() {
+        int userID = 741;
+
+        when(userRepository.existsById(userID)).thenReturn(true);
+        CursorValidationException exception = assertThrows(CursorValidationException.class,
+                () -> service.getBookingsOfUserItemsAfterCursor(userID, PageCursor.of(20), 5));
+
+        assertEquals("Cursor doesn't contain start of booking", exception.getMessage());
+    }
+
+    @Test
+    void getItemAvailability_exception_whenItemNotPresent() {
+        int userID = 3;
+        int itemID = 54;
+        LocalDateTime start = LocalDateTime.now();
+
+        when(userRepository.existsById(userID)).thenReturn(true);
+        when(itemRepository.existsById(itemID)).thenReturn(false);
+        ItemNotFoundException exception = assertThrows(ItemNotFoundException.class,
+                () -> service.getItemAvailability(userID, itemID, start, start.plusDays(7)));
+
+        verify(bookingIndex, never()).findAvailability(itemID, start, start.plusDays(7));
+        assertEquals("Item with ID 54 not present", exception.getMessage());
+    }
+
+    @Test
+    void getItemAvailability_exception_whenStartNotBeforeEnd() {
+        int userID = 3;
+        LocalDateTime start = LocalDateTime.now();
+
+        when(userRepository.existsById(userID)).thenReturn(true);
+        BookingValidationException exception = assertThrows(BookingValidationException.class,
+                () -> service.getItemAvailability(userID, 54, start, start));
+
+        assertEquals("Start of period must be before end", exception.getMessage());
+    }
 }
@@ -0,0 +1,165 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import ru.practicum.shareit.booking.dto.AvailabilitySlot;
+import ru.practicum.shareit.booking.dto.BookingStatus;
+import ru.practicum.shareit.booking.dto.ShortBooking;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.ItemBookingIndex;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemBookingIndexTests {
+    private final LocalDateTime moment = LocalDateTime.of(2030, 1, 10, 12, 0);
+    private final User owner = User.builder().id(1).name("jo").email("j@i.jo").build();
+    private final User booker = User.builder().id(2).name("leo").email("l@e.o").build();
+    private final Item item = Item.builder().id(5).name("dollar").description("one dollar").available(true).owner(owner).build();
+    @Mock
+    private BookingRepository bookingRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private ItemBookingIndex bookingIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookingIndex = new ItemBookingIndex(bookingRepository, transactionManager, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void findLastAndNext_closestApprovedBookings_loadedOnce() {
+        when(bookingRepository.findApprovedBookingsOfItem(item.getId())).thenReturn(List.of(
+                booking(7, moment.minusDays(6), moment.minusDays(5)),
+                booking(8, moment.minusDays(2), moment.minusDays(1)),
+                booking(9, moment.plusDays(1), moment.plusDays(2)),
+                booking(10, moment.plusDays(4), moment.plusDays(5))));
+
+        Optional<ShortBooking> last = bookingIndex.findLast(item.getId(), moment);
+        Optional<ShortBooking> next = bookingIndex.findNext(item.getId(), moment);
+
+        verify(bookingRepository, times(1)).findApprovedBookingsOfItem(item.getId());
+        assertEquals(8, last.orElseThrow().getId());
+        assertEquals(booker.getId(), last.orElseThrow().getBookerId());
+        assertEquals(9, next.orElseThrow().getId());
+        assertTrue(bookingIndex.findLast(item.getId(), moment.minusDays(6)).isEmpty());
+        assertTrue(bookingIndex.findNext(item.getId(), moment.plusDays(4)).isEmpty());
+    }
+
+    @Test
+    void hasApprovedOverlap_onlyForIntersectingPeriods() {
+        when(bookingRepository.findApprovedBookingsOfItem(item.getId())).thenReturn(List.of(
+                booking(7, moment, moment.plusDays(2))));
+
+        assertTrue(bookingIndex.hasApprovedOverlap(item.getId(), moment.plusDays(1), moment.plusDays(3)));
+        assertTrue(bookingIndex.hasApprovedOverlap(item.getId(), moment.minusDays(1), moment.plusDays(3)));
+        assertFalse(bookingIndex.hasApprovedOverlap(item.getId(), moment.plusDays(2), moment.plusDays(3)));
+        assertFalse(bookingIndex.hasApprovedOverlap(item.getId(), moment.minusDays(2), moment));
+    }
+
+    @Test
+    void hasApprovedOverlap_longBookingFound_behindLaterShortOne() {
+        when(bookingRepository.findApprovedBookingsOfItem(item.getId())).thenReturn(List.of(
+                booking(7, moment, moment.plusDays(10)),
+                booking(8, moment.plusDays(2), moment.plusDays(3))));
+
+        assertTrue(bookingIndex.hasApprovedOverlap(item.getId(), moment.plusDays(4), moment.plusDays(5)));
+        assertEquals(List.of(
+                        slot(moment.plusDays(4), moment.plusDays(5), false)),
+                bookingIndex.findAvailability(item.getId(), moment.plusDays(4), moment.plusDays(5)));
+    }
+
+    @Test
+    void load_runsInOwnReadOnlyTransaction() {
+        when(bookingRepository.findApprovedBookingsOfItem(item.getId())).thenReturn(List.of());
+
+        bookingIndex.findNext(item.getId(), moment);
+
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW
+                        && definition.isReadOnly()));
+    }
+
+    @Test
+    void approved_addedToLoadedItem() {
+        when(bookingRepository.findApprovedBookingsOfItem(item.getId())).thenReturn(List.of());
+        assertTrue(bookingIndex.findNext(item.getId(), moment).isEmpty());
+
+        bookingIndex.approved(booking(11, moment.plusDays(1), moment.plusDays(2)));
+
+        assertEquals(11, bookingIndex.findNext(item.getId(), moment).orElseThrow().getId());
+        verify(bookingRepository, times(1)).findApprovedBookingsOfItem(item.getId());
+    }
+
+    @Test
+    void evictAll_reloadsFromBase() {
+        when(bookingRepository.findApprovedBookingsOfItem(item.getId())).thenReturn(List.of());
+        bookingIndex.findNext(item.getId(), moment);
+
+        bookingIndex.evictAll();
+        bookingIndex.findNext(item.getId(), moment);
+
+        verify(bookingRepository, times(2)).findApprovedBookingsOfItem(item.getId());
+    }
+
+    @Test
+    void findAvailability_freeAndBusySlots_clippedToPeriod() {
+        when(bookingRepository.findApprovedBookingsOfItem(item.getId())).thenReturn(List.of(
+                booking(7, moment.minusDays(1), moment.plusDays(1)),
+                booking(8, moment.plusDays(3), moment.plusDays(4)),
+                booking(9, moment.plusDays(4), moment.plusDays(5)),
+                booking(10, moment.plusDays(9), moment.plusDays(12))));
+
+        List<AvailabilitySlot> slots = bookingIndex.findAvailability(item.getId(), moment, moment.plusDays(10));
+
+        assertEquals(List.of(
+                slot(moment, moment.plusDays(1), false),
+                slot(moment.plusDays(1), moment.plusDays(3), true),
+                slot(moment.plusDays(3), moment.plusDays(5), false),
+                slot(moment.plusDays(5), moment.plusDays(9), true),
+                slot(moment.plusDays(9), moment.plusDays(10), false)), slots);
+    }
+
+    @Test
+    void findAvailability_oneFreeSlot_whenNoBookings() {
+        when(bookingRepository.findApprovedBookingsOfItem(item.getId())).thenReturn(List.of());
+
+        List<AvailabilitySlot> slots = bookingIndex.findAvailability(item.getId(), moment, moment.plusDays(10));
+
+        assertEquals(List.of(slot(moment, moment.plusDays(10), true)), slots);
+    }
+
+    private AvailabilitySlot slot(LocalDateTime start, LocalDateTime end, boolean free) {
+        return AvailabilitySlot.builder().start(start).end(end).free(free).build();
+    }
+
+    private Booking booking(int id, LocalDateTime start, LocalDateTime end) {
+        return Booking.builder()
+                .id(id)
+                .item(item)
+                .booker(booker)
+                .start(start)
+                .end(end)
+                .status(BookingStatus.APPROVED)
+                .build();
+    }
+}
@@ -76,4 +76,24 @@ public class CommentRepositoryTests {
         assertEquals(firstComment.getItem().getName(), comments.get(1).getItem().getName());
         assertEquals(firstComment.getCreated(), comments.get(1).getCreated());
     }
+
+    @Test
+    void findAllByItemIDs_foundForAllItems_orderByCreatedDesc() {
+        User owner = userRepository.save(User.builder().name("Jo").email("j@i.jo").build());
+        User author = userRepository.save(User.builder().name("Leo").email("l@e.o").build());
+        Item firstItem = itemRepository.save(Item.builder().name("dollar").description("one dollar").available(true).owner(owner).build());
+        Item secondItem = itemRepository.save(Item.builder().name("euro").description("one euro").available(true).owner(owner).build());
+        Item thirdItem = itemRepository.save(Item.builder().name("yen").description("one yen").available(true).owner(owner).build());
+        Comment firstComment = commentRepository.save(Comment.builder().item(firstItem).text("cool dollar").author(author).created(LocalDateTime.now().minusDays(2)).build());
+        Comment secondComment = commentRepository.save(Comment.builder().item(secondItem).text("cool euro").author(author).created(LocalDateTime.now().minusDays(1)).build());
+        commentRepository.save(Comment.builder().item(thirdItem).text("cool yen").author(author).created(LocalDateTime.now()).build());
+
+        List<Comment> comments = commentRepository.findAllByItemIDs(List.of(firstItem.getId(), secondItem.getId()));
+
+        assertEquals(2, comments.size());
+        assertEquals(secondComment.getText(), comments.get(0).getText());
+        assertEquals(secondComment.getAuthor().getName(), comments.get(0).getAuthor().getName());
+        assertEquals(firstComment.getText(), comments.get(1).getText());
+        assertEquals(firstComment.getAuthor().getName(), comments.get(1).getAuthor().getName());
+    }
 }
@@ -90,6 +90,21 @@ public class ItemRepositoryTests {
         assertEquals(secondItem.getDescription(), items.get(0).getDescription());
     }
 
+    @Test
+    void findItemByNameAndDesc_orderByRelevance() {
+        User owner = userRepository.save(User.builder().name("Jo").email("j@i.jo").build());
+        Item descItem = itemRepository.save(Item.builder().name("wallet").description("for euro coins").available(true).owner(owner).build());
+        Item nameItem = itemRepository.save(Item.builder().name("old euro").description("one euro").available(true).owner(owner).build());
+        Item prefixItem = itemRepository.save(Item.builder().name("Euro").description("one euro").available(true).owner(owner).build());
+
+        List<Item> items = itemRepository.findItemByNameAndDesc("euro", PageRequest.of(0, 5));
+
+        assertEquals(3, items.size());
+        assertEquals(prefixItem.getId(), items.get(0).getId());
+        assertEquals(nameItem.getId(), items.get(1).getId());
+        assertEquals(descItem.getId(), items.get(2).getId());
+    }
+
     @Test
     void findAllByUserId_emptyList_whenNothingFounded() {
         User firstOwner = userRepository.save(User.builder().name("Jo").email("j@i.jo").build());
@@ -157,6 +172,18 @@ public class ItemRepositoryTests {
         assertEquals(secondItem.getDescription(), items.get(0).getDescription());
     }
 
+    @Test
+    void findAllByUserIdAfter_seekPastCursor() {
+        User owner = userRepository.save(User.builder().name("Jo").email("j@i.jo").build());
+        Item firstItem = itemRepository.save(Item.builder().name("dollar").description("one dollar").available(true).owner(owner).build());
+        Item secondItem = itemRepository.save(Item.builder().name("euro").description("one euro").available(true).owner(owner).build());
+
+        List<Item> items = itemRepository.findAllByUserIdAfter(owner.getId(), firstItem.getId(), PageRequest.of(0, 5));
+
+        assertEquals(1, items.size());
+        assertEquals(secondItem.getId(), items.get(0).getId());
+    }
+
     @Test
     void findAllByRequestID_emptyList_whenNothingFounded() {
         User requestor = userRepository.save(User.builder().name("Leo").email("l@e.o").build());
@@ -186,6 +213,23 @@ public class ItemRepositoryTests {
         assertEquals(firstItem.getRequest().getId(), items.get(0).getRequest().getId());
     }
 
+    @Test
+    void findAllByRequestIDs_itemsOfAllRequests() {
+        User requestor = userRepository.save(User.builder().name("Leo").email("l@e.o").build());
+        ItemRequest firstRequest = requestRepository.save(ItemRequest.builder().requestor(requestor).description("need money").created(LocalDateTime.now().minusDays(2)).build());
+        ItemRequest secondRequest = requestRepository.save(ItemRequest.builder().requestor(requestor).description("need coins").created(LocalDateTime.now().minusDays(1)).build());
+        User owner = userRepository.save(User.builder().name("Jo").email("j@i.jo").build());
+        Item firstItem = itemRepository.save(Item.builder().name("dollar").description("one dollar").available(true).owner(owner).request(firstRequest).build());
+        Item secondItem = itemRepository.save(Item.builder().name("euro").description("one euro").available(true).owner(owner).request(secondRequest).build());
+        itemRepository.save(Item.builder().name("yen").description("one yen").available(true).owner(owner).build());
+
+        List<Item> items = itemRepository.findAllByRequestIDs(List.of(firstRequest.getId(), secondRequest.getId()));
+
+        assertEquals(2, items.size());
+        assertEquals(firstItem.getId(), items.get(0).getId());
+        assertEquals(secondItem.getId(), items.get(1).getId());
+    }
+
     @Test
     void findAllByRequestID_twoFounded() {
         User requestor = userRepository.save(User.builder().name("Leo").email("l@e.o").build());
@@ -0,0 +1,131 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.Paginator;
+import ru.practicum.shareit.item.dto.ItemDTO;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemSearchIndex;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemSearchIndexTests {
+    @Mock
+    private ItemRepository itemRepository;
+    private ItemSearchIndex searchIndex;
+    private final User owner = User.builder().id(1).name("jo").email("j@i.jo").build();
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new ItemSearchIndex(itemRepository, true);
+        List<Item> items = List.of(
+                Item.builder().id(1).name("dollar").description("one dollar").available(true).owner(owner).build(),
+                Item.builder().id(2).name("euro").description("one euro").available(true).owner(owner).build(),
+                Item.builder().id(3).name("wallet").description("for Euro coins").available(true).owner(owner)
+                        .request(ItemRequest.builder().id(7).build()).build());
+        when(itemRepository.findAvailableItemsAfterID(0, PageRequest.of(0, 1000))).thenReturn(items);
+        searchIndex.build();
+    }
+
+    @Test
+    void search_emptyList_whenNothingFounded() {
+        List<ItemDTO> dtos = searchIndex.search("rub", 0, 5);
+
+        assertEquals(0, dtos.size());
+    }
+
+    @Test
+    void search_foundByPartOfName_inAnyCase() {
+        List<ItemDTO> dtos = searchIndex.search("dOLl", 0, 5);
+
+        assertEquals(1, dtos.size());
+        assertEquals(1, dtos.get(0).getId());
+        assertEquals("dollar", dtos.get(0).getName());
+        assertEquals("one dollar", dtos.get(0).getDescription());
+        assertEquals(true, dtos.get(0).getAvailable());
+        assertEquals(0, dtos.get(0).getRequestId());
+    }
+
+    @Test
+    void search_nameMatchesFirst_thenDescriptionMatches() {
+        List<ItemDTO> dtos = searchIndex.search("euro", 0, 5);
+
+        assertEquals(2, dtos.size());
+        assertEquals(2, dtos.get(0).getId());
+        assertEquals(3, dtos.get(1).getId());
+        assertEquals(7, dtos.get(1).getRequestId());
+    }
+
+    @Test
+    void search_shortText_scansAllItems() {
+        List<ItemDTO> dtos = searchIndex.search("o", 0, 5);
+
+        assertEquals(3, dtos.size());
+    }
+
+    @Test
+    void search_secondPage() {
+        List<ItemDTO> dtos = searchIndex.search("one", 1, 1);
+
+        assertEquals(1, dtos.size());
+        assertEquals(2, dtos.get(0).getId());
+    }
+
+    @Test
+    void index_itemAddedAndPatched() {
+        Item item = Item.builder().id(4).name("yen").description("one yen").available(true).owner(owner).build();
+        searchIndex.index(item);
+
+        assertEquals(1, searchIndex.search("yen", 0, 5).size());
+
+        item.setName("pound");
+        item.setDescription("one pound");
+        searchIndex.index(item);
+
+        assertEquals(0, searchIndex.search("yen", 0, 5).size());
+        assertEquals(1, searchIndex.search("pound", 0, 5).size());
+    }
+
+    @Test
+    void index_itemRemoved_whenBecameUnavailable() {
+        Item item = Item.builder().id(2).name("euro").description("one euro").available(false).owner(owner).build();
+        searchIndex.index(item);
+
+        assertEquals(1, searchIndex.search("euro", 0, 5).size());
+        assertEquals(3, searchIndex.search("euro", 0, 5).get(0).getId());
+    }
+
+    @Test
+    void evictItemsDeletedWithUser_removesItems() {
+        when(itemRepository.findIDsOfItemsDeletedWithUser(owner.getId())).thenReturn(List.of(1, 2));
+        searchIndex.evictItemsDeletedWithUser(owner.getId());
+
+        List<ItemDTO> dtos = searchIndex.search("one", 0, 5);
+        assertEquals(0, dtos.size());
+        assertEquals(1, searchIndex.search("coins", 0, 5).size());
+    }
+
+    @Test
+    void search_servedByDatabase_whenIndexDisabled() {
+        ItemSearchIndex databaseSearch = new ItemSearchIndex(itemRepository, false);
+        Item item = Item.builder().id(2).name("euro").description("one euro").available(true).owner(owner).build();
+
+        when(itemRepository.findItemByNameAndDesc("euro", new Paginator(0, 5))).thenReturn(List.of(item));
+        databaseSearch.build();
+        List<ItemDTO> dtos = databaseSearch.search("EURO", 0, 5);
+
+        assertEquals(1, dtos.size());
+        assertEquals(2, dtos.get(0).getId());
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.Paginator;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.ItemBookingIndex;
 import ru.practicum.shareit.exceptions.BookingValidationException;
 import ru.practicum.shareit.exceptions.IncorrectItemOwnerException;
 import ru.practicum.shareit.exceptions.ItemNotFoundException;
@@ -22,9 +23,13 @@ import ru.practicum.shareit.item.dto.ItemWithBookingsAndCommentsDTO;
 import ru.practicum.shareit.item.dto.OutcomeCommentDTO;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSummary;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.repository.ItemSummaryRepository;
+import ru.practicum.shareit.item.service.ItemSearchIndex;
 import ru.practicum.shareit.item.service.ItemServiceImpl;
+import ru.practicum.shareit.item.service.ItemSummaryUpdater;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
@@ -39,6 +44,9 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -56,6 +64,14 @@ public class ItemServiceTests {
     private CommentRepository commentRepository;
     @Mock
     private ItemRequestRepository requestRepository;
+    @Mock
+    private ItemSearchIndex searchIndex;
+    @Mock
+    private ItemBookingIndex bookingIndex;
+    @Mock
+    private ItemSummaryRepository summaryRepository;
+    @Mock
+    private ItemSummaryUpdater summaryUpdater;
     @InjectMocks
     private ItemServiceImpl service;
 
@@ -65,7 +81,7 @@ public class ItemServiceTests {
         User owner = User.builder().id(userID).name("jo").email("j@i.jo").build();
         ItemDTO incomeDTO = ItemDTO.builder().name("dollar").description("one dollar").available(true).build();
 
-        when(userRepository.existsById(userID)).thenReturn(false);
+        when(userRepository.findById(userID)).thenReturn(Optional.empty());
         UserNotFoundException exception = assertThrows(UserNotFoundException.class,
                 () -> service.addItem(userID, incomeDTO));
 
@@ -85,7 +101,6 @@ public class ItemServiceTests {
                 .owner(owner)
                 .build();
 
-        when(userRepository.existsById(userID)).thenReturn(true);
         when(userRepository.findById(userID)).thenReturn(Optional.of(owner));
         ItemDTO outcomeDTO = service.addItem(userID, incomeDTO);
 
@@ -102,8 +117,8 @@ public class ItemServiceTests {
         User owner = User.builder().id(userID).name("jo").email("j@i.jo").build();
         ItemDTO incomeDTO = ItemDTO.builder().name("dollar").description("one dollar").available(true).requestId(requestID).build();
 
-        when(userRepository.existsById(userID)).thenReturn(true);
-        when(requestRepository.existsById(requestID)).thenReturn(false);
+        when(userRepository.findById(userID)).thenReturn(Optional.of(owner));
+        when(requestRepository.findById(requestID)).thenReturn(Optional.empty());
         ItemRequestNotFoundException exception = assertThrows(ItemRequestNotFoundException.class,
                 () -> service.addItem(userID, incomeDTO));
 
@@ -131,9 +146,7 @@ public class ItemServiceTests {
                 .request(request)
                 .build();
 
-        when(userRepository.existsById(userID)).thenReturn(true);
         when(userRepository.findById(userID)).thenReturn(Optional.of(owner));
-        when(requestRepository.existsById(requestID)).thenReturn(true);
         when(requestRepository.findById(requestID)).thenReturn(Optional.of(request));
         ItemDTO outcomeDTO = service.addItem(userID, incomeDTO);
 
@@ -157,6 +170,19 @@ public class ItemServiceTests {
         assertEquals("User with ID 69 not present", exception.getMessage());
     }
 
+    @Test
+    void patchItem_exception_whenItemNotPresent() {
+        int userID = 34;
+        ItemDTO incomeDTO = ItemDTO.builder().id(45).name("dollar").build();
+
+        when(userRepository.existsById(userID)).thenReturn(true);
+        when(itemRepository.findById(incomeDTO.getId())).thenReturn(Optional.empty());
+        ItemNotFoundException exception = assertThrows(ItemNotFoundException.class,
+                () -> service.patchItem(userID, incomeDTO));
+
+        assertEquals("Item with ID 45 not present", exception.getMessage());
+    }
+
     @Test
     void patchItem_exception_whenUserNotItemOwner() {
         int userID = 34;
@@ -232,11 +258,10 @@ public class ItemServiceTests {
         int userID = 35;
         int itemID = 23;
 
-        when(itemRepository.existsById(itemID)).thenReturn(false);
+        when(itemRepository.findById(itemID)).thenReturn(Optional.empty());
         ItemNotFoundException exception = assertThrows(ItemNotFoundException.class,
                 () -> service.getItemByID(itemID, userID));
 
-        verify(itemRepository, never()).findById(itemID);
         assertEquals("Item with ID 23 not present", exception.getMessage());
     }
 
@@ -245,12 +270,11 @@ public class ItemServiceTests {
         int userID = 35;
         int itemID = 23;
 
-        when(itemRepository.existsById(itemID)).thenReturn(true);
+        when(itemRepository.findById(itemID)).thenReturn(Optional.of(Item.builder().id(itemID).name("dollar").description("one dollar").available(true).build()));
         when(userRepository.existsById(userID)).thenReturn(false);
         UserNotFoundException exception = assertThrows(UserNotFoundException.class,
                 () -> service.getItemByID(itemID, userID));
 
-        verify(itemRepository, never()).findById(itemID);
         assertEquals("User with ID 35 not present", exception.getMessage());
     }
 
@@ -261,7 +285,6 @@ public class ItemServiceTests {
         User owner = User.builder().id(15).name("jo").email("j@i.jo").build();
         Item item = Item.builder().id(itemID).name("dollar").description("one dollar").owner(owner).available(true).build();
 
-        when(itemRepository.existsById(itemID)).thenReturn(true);
         when(userRepository.existsById(userID)).thenReturn(true);
         when(itemRepository.findById(itemID)).thenReturn(Optional.of(item));
         when(commentRepository.findAllByItemID(item.getId())).thenReturn(Collections.emptyList());
@@ -287,7 +310,6 @@ public class ItemServiceTests {
         Item item = Item.builder().id(itemID).name("dollar").description("one dollar").owner(owner).available(true).build();
         List<Comment> comments = List.of(Comment.builder().id(43).author(author).item(item).text("love money").created(LocalDateTime.now().minusDays(1)).build());
 
-        when(itemRepository.existsById(itemID)).thenReturn(true);
         when(userRepository.existsById(userID)).thenReturn(true);
         when(itemRepository.findById(itemID)).thenReturn(Optional.of(item));
         when(commentRepository.findAllByItemID(item.getId())).thenReturn(comments);
@@ -314,7 +336,6 @@ public class ItemServiceTests {
         User owner = User.builder().id(userID).name("jo").email("j@i.jo").build();
         Item item = Item.builder().id(itemID).name("dollar").description("one dollar").owner(owner).available(true).build();
 
-        when(itemRepository.existsById(itemID)).thenReturn(true);
         when(userRepository.existsById(userID)).thenReturn(true);
         when(itemRepository.findById(itemID)).thenReturn(Optional.of(item));
         when(commentRepository.findAllByItemID(item.getId())).thenReturn(Collections.emptyList());
@@ -340,7 +361,6 @@ public class ItemServiceTests {
         Item item = Item.builder().id(itemID).name("dollar").description("one dollar").owner(owner).available(true).build();
         List<Comment> comments = List.of(Comment.builder().id(43).author(author).item(item).text("love money").created(LocalDateTime.now().minusDays(1)).build());
 
-        when(itemRepository.existsById(itemID)).thenReturn(true);
         when(userRepository.existsById(userID)).thenReturn(true);
         when(itemRepository.findById(itemID)).thenReturn(Optional.of(item));
         when(commentRepository.findAllByItemID(item.getId())).thenReturn(comments);
@@ -411,11 +431,11 @@ public class ItemServiceTests {
 
         when(userRepository.existsById(userID)).thenReturn(true);
         when(itemRepository.findAllByUserId(userID, paginator)).thenReturn(items);
-        when(commentRepository.findAllByItemID(items.get(0).getId())).thenReturn(comments);
+        when(commentRepository.findAllByItemIDs(List.of(itemID))).thenReturn(comments);
         List<ItemWithBookingsAndCommentsDTO> dtos = List.copyOf(service.getItemsOfUserByID(userID, from, size));
 
         verify(itemRepository, atMostOnce()).findAllByUserId(userID, paginator);
-        verify(commentRepository, atMostOnce()).findAllByItemID(items.get(0).getId());
+        verify(commentRepository, atMostOnce()).findAllByItemIDs(List.of(itemID));
         assertEquals(items.get(0).getId(), dtos.get(0).getId());
         assertEquals(items.get(0).getName(), dtos.get(0).getName());
         assertEquals(items.get(0).getDescription(), dtos.get(0).getDescription());
@@ -428,17 +448,114 @@ public class ItemServiceTests {
         assertNull(dtos.get(0).getNextBooking());
     }
 
+    @Test
+    void getItemsOfUserByID_gettingWithBookings_whenOwner() {
+        int userID = 27;
+        int from = 0;
+        int size = 5;
+        Paginator paginator = new Paginator(from, size);
+        User owner = User.builder().id(userID).name("jo").email("j@i.jo").build();
+        User booker = User.builder().id(85).name("leo").email("l@e.o").build();
+        Item firstItem = Item.builder().id(41).name("dollar").description("one dollar").owner(owner).available(true).build();
+        Item secondItem = Item.builder().id(42).name("euro").description("one euro").owner(owner).available(true).build();
+        Booking last = Booking.builder().id(7).item(firstItem).booker(booker)
+                .start(LocalDateTime.now().minusDays(2)).end(LocalDateTime.now().minusDays(1)).build();
+        Booking next = Booking.builder().id(8).item(firstItem).booker(booker)
+                .start(LocalDateTime.now().plusDays(1)).end(LocalDateTime.now().plusDays(2)).build();
+
+        when(userRepository.existsById(userID)).thenReturn(true);
+        when(itemRepository.findAllByUserId(userID, paginator)).thenReturn(List.of(firstItem, secondItem));
+        when(bookingRepository.findPreviousAndNextBookingsOfItems(eq(List.of(41, 42)), any(LocalDateTime.class)))
+                .thenReturn(List.of(last, next));
+        List<ItemWithBookingsAndCommentsDTO> dtos = List.copyOf(service.getItemsOfUserByID(userID, from, size));
+
+        verify(commentRepository, never()).findAllByItemID(anyInt());
+        assertEquals(2, dtos.size());
+        assertEquals(last.getId(), dtos.get(0).getLastBooking().getId());
+        assertEquals(booker.getId(), dtos.get(0).getLastBooking().getBookerId());
+        assertEquals(next.getId(), dtos.get(0).getNextBooking().getId());
+        assertEquals(0, dtos.get(0).getComments().size());
+        assertNull(dtos.get(1).getLastBooking());
+        assertNull(dtos.get(1).getNextBooking());
+        assertEquals(0, dtos.get(1).getComments().size());
+    }
+
+    @Test
+    void getItemsOfUserByID_servedFromSummary_whenSummaryFresh() {
+        int userID = 27;
+        int from = 0;
+        int size = 5;
+        Paginator paginator = new Paginator(from, size);
+        User owner = User.builder().id(userID).name("jo").email("j@i.jo").build();
+        Item item = Item.builder().id(41).name("dollar").description("one dollar").owner(owner).available(true).build();
+        ItemSummary summary = ItemSummary.builder()
+                .itemId(41)
+                .lastBookingId(7)
+                .lastBookerId(85)
+                .lastStart(LocalDateTime.now().minusDays(2))
+                .nextBookingId(8)
+                .nextBookerId(86)
+                .nextStart(LocalDateTime.now().plusDays(1))
+                .bookingsLoaded(true)
+                .build();
+
+        when(userRepository.existsById(userID)).thenReturn(true);
+        when(itemRepository.findAllByUserId(userID, paginator)).thenReturn(List.of(item));
+        when(summaryRepository.findAllById(List.of(41))).thenReturn(List.of(summary));
+        List<ItemWithBookingsAndCommentsDTO> dtos = List.copyOf(service.getItemsOfUserByID(userID, from, size));
+
+        verify(bookingRepository, never()).findPreviousAndNextBookingsOfItems(any(), any(LocalDateTime.class));
+        verify(commentRepository, never()).findAllByItemIDs(any());
+        assertEquals(7, dtos.get(0).getLastBooking().getId());
+        assertEquals(85, dtos.get(0).getLastBooking().getBookerId());
+        assertEquals(8, dtos.get(0).getNextBooking().getId());
+        assertEquals(86, dtos.get(0).getNextBooking().getBookerId());
+        assertEquals(0, dtos.get(0).getComments().size());
+    }
+
+    @Test
+    void getItemsOfUserByID_bookingsRecomputed_whenNextBookingOfSummaryStarted() {
+        int userID = 27;
+        int from = 0;
+        int size = 5;
+        Paginator paginator = new Paginator(from, size);
+        User owner = User.builder().id(userID).name("jo").email("j@i.jo").build();
+        User booker = User.builder().id(85).name("leo").email("l@e.o").build();
+        Item item = Item.builder().id(41).name("dollar").description("one dollar").owner(owner).available(true).build();
+        ItemSummary summary = ItemSummary.builder()
+                .itemId(41)
+                .nextBookingId(8)
+                .nextBookerId(85)
+                .nextStart(LocalDateTime.now().minusHours(1))
+                .bookingsLoaded(true)
+                .build();
+        Booking last = Booking.builder().id(8).item(item).booker(booker)
+                .start(LocalDateTime.now().minusHours(1)).end(LocalDateTime.now().plusDays(1)).build();
+
+        when(userRepository.existsById(userID)).thenReturn(true);
+        when(itemRepository.findAllByUserId(userID, paginator)).thenReturn(List.of(item));
+        when(summaryRepository.findAllById(List.of(41))).thenReturn(List.of(summary));
+        when(bookingRepository.findPreviousAndNextBookingsOfItems(eq(List.of(41)), any(LocalDateTime.class)))
+                .thenReturn(List.of(last));
+        List<ItemWithBookingsAndCommentsDTO> dtos = List.copyOf(service.getItemsOfUserByID(userID, from, size));
+
+        verify(commentRepository, never()).findAllByItemIDs(any());
+        verify(summaryUpdater).bookingsRecomputed(eq(summary), eq(List.of(last)), any(LocalDateTime.class));
+        assertEquals(8, dtos.get(0).getLastBooking().getId());
+        assertNull(dtos.get(0).getNextBooking());
+    }
+
     @Test
     void searchItemsByText_emptyList_whenNothingFounded() {
         String text = "mars";
         int from = 0;
         int size = 5;
-        Paginator paginator = new Paginator(from, size);
 
-        when(itemRepository.findItemByNameAndDesc(text, paginator)).thenReturn(Collections.emptyList());
+        when(searchIndex.search(text, from, size)).thenReturn(Collections.emptyList());
         List<ItemDTO> dtos = List.copyOf(service.searchItemsByText(text, from, size));
 
-        verify(itemRepository, atMostOnce()).findItemByNameAndDesc(text, paginator);
+        verify(searchIndex, atMostOnce()).search(text, from, size);
+        verify(itemRepository, never()).findItemByNameAndDesc(text, new Paginator(from, size));
         assertEquals(0, dtos.size());
     }
 
@@ -447,14 +564,13 @@ public class ItemServiceTests {
         String text = "dollar";
         int from = 0;
         int size = 5;
-        Paginator paginator = new Paginator(from, size);
         User owner = User.builder().id(86).name("jo").email("j@i.jo").build();
         Item item = Item.builder().id(12).name("dollar").description("one dollar").owner(owner).available(true).build();
 
-        when(itemRepository.findItemByNameAndDesc(text, paginator)).thenReturn(List.of(item));
+        when(searchIndex.search(text, from, size)).thenReturn(List.of(ItemMapper.itemToItemDTO(item)));
         List<ItemDTO> dtos = List.copyOf(service.searchItemsByText(text, from, size));
 
-        verify(itemRepository, atMostOnce()).findItemByNameAndDesc(text, paginator);
+        verify(searchIndex, atMostOnce()).search(text, from, size);
         assertEquals(1, dtos.size());
         assertEquals(item.getId(), dtos.get(0).getId());
         assertEquals(item.getName(), dtos.get(0).getName());
@@ -467,14 +583,13 @@ public class ItemServiceTests {
         String text = "dOLl";
         int from = 0;
         int size = 5;
-        Paginator paginator = new Paginator(from, size);
         User owner = User.builder().id(86).name("jo").email("j@i.jo").build();
         Item item = Item.builder().id(12).name("dollar").description("one dollar").owner(owner).available(true).build();
 
-        when(itemRepository.findItemByNameAndDesc(text.toLowerCase(), paginator)).thenReturn(List.of(item));
+        when(searchIndex.search(text, from, size)).thenReturn(List.of(ItemMapper.itemToItemDTO(item)));
         List<ItemDTO> dtos = List.copyOf(service.searchItemsByText(text, from, size));
 
-        verify(itemRepository, atMostOnce()).findItemByNameAndDesc(text, paginator);
+        verify(searchIndex, atMostOnce()).search(text, from, size);
         assertEquals(1, dtos.size());
         assertEquals(item.getId(), dtos.get(0).getId());
         assertEquals(item.getName(), dtos.get(0).getName());
@@ -488,7 +603,7 @@ public class ItemServiceTests {
         int userID = 84;
         IncomeCommentDTO incomeDTO = IncomeCommentDTO.builder().text("love money").build();
 
-        when(itemRepository.existsById(itemID)).thenReturn(false);
+        when(itemRepository.findById(itemID)).thenReturn(Optional.empty());
         ItemNotFoundException exception = assertThrows(ItemNotFoundException.class,
                 () -> service.addCommentToItemByUser(itemID, userID, incomeDTO));
 
@@ -501,8 +616,8 @@ public class ItemServiceTests {
         int userID = 84;
         IncomeCommentDTO incomeDTO = IncomeCommentDTO.builder().text("love money").build();
 
-        when(itemRepository.existsById(itemID)).thenReturn(true);
-        when(userRepository.existsById(userID)).thenReturn(false);
+        when(itemRepository.findById(itemID)).thenReturn(Optional.of(Item.builder().id(itemID).name("dollar").description("one dollar").available(true).build()));
+        when(userRepository.findById(userID)).thenReturn(Optional.empty());
         UserNotFoundException exception = assertThrows(UserNotFoundException.class,
                 () -> service.addCommentToItemByUser(itemID, userID, incomeDTO));
 
@@ -515,8 +630,8 @@ public class ItemServiceTests {
         int userID = 23;
         IncomeCommentDTO incomeDTO = IncomeCommentDTO.builder().text("love money").build();
 
-        when(itemRepository.existsById(itemID)).thenReturn(true);
-        when(userRepository.existsById(userID)).thenReturn(true);
+        when(itemRepository.findById(itemID)).thenReturn(Optional.of(Item.builder().id(itemID).name("dollar").description("one dollar").available(true).build()));
+        when(userRepository.findById(userID)).thenReturn(Optional.of(User.builder().id(userID).name("jo").email("j@i.jo").build()));
         when(bookingRepository.findOneApprovedBookingOfUser(userID)).thenReturn(Optional.empty());
         UserNotBookedItemException exception = assertThrows(UserNotBookedItemException.class,
                 () -> service.addCommentToItemByUser(itemID, userID, incomeDTO));
@@ -530,8 +645,8 @@ public class ItemServiceTests {
         int userID = 83;
         IncomeCommentDTO incomeDTO = IncomeCommentDTO.builder().text("love money").build();
 
-        when(itemRepository.existsById(itemID)).thenReturn(true);
-        when(userRepository.existsById(userID)).thenReturn(true);
+        when(itemRepository.findById(itemID)).thenReturn(Optional.of(Item.builder().id(itemID).name("dollar").description("one dollar").available(true).build()));
+        when(userRepository.findById(userID)).thenReturn(Optional.of(User.builder().id(userID).name("jo").email("j@i.jo").build()));
         when(bookingRepository.findOneApprovedBookingOfUser(userID)).thenReturn(Optional.of(Booking.builder().build()));
         BookingValidationException exception = assertThrows(BookingValidationException.class,
                 () -> service.addCommentToItemByUser(itemID, userID, incomeDTO));
@@ -547,8 +662,6 @@ public class ItemServiceTests {
         User owner = User.builder().id(userID).name("jo").email("j@i.jo").build();
         Item item = Item.builder().id(itemID).name("dollar").description("one dollar").owner(owner).available(true).build();
 
-        when(itemRepository.existsById(itemID)).thenReturn(true);
-        when(userRepository.existsById(userID)).thenReturn(true);
         when(bookingRepository.findOneApprovedBookingOfUser(userID)).thenReturn(Optional.of(Booking.builder().build()));
         when(bookingRepository.findOneApprovedBookingOfItemInPast(itemID, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS))).thenReturn(Optional.of(Booking.builder().build()));
         when(userRepository.findById(userID)).thenReturn(Optional.of(owner));
@@ -0,0 +1,103 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSummary;
+import ru.practicum.shareit.item.repository.ItemSummaryRepository;
+import ru.practicum.shareit.item.service.ItemSummaryUpdater;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemSummaryUpdaterTests {
+    @Mock
+    private ItemSummaryRepository summaryRepository;
+    @Mock
+    private BookingRepository bookingRepository;
+    @InjectMocks
+    private ItemSummaryUpdater summaryUpdater;
+
+    @Test
+    void bookingsApproved_lastAndNextBookingsStored() {
+        User owner = User.builder().id(1).name("jo").email("j@i.jo").build();
+        User booker = User.builder().id(2).name("leo").email("l@e.o").build();
+        Item item = Item.builder().id(41).name("dollar").description("one dollar").owner(owner).available(true).build();
+        Booking last = Booking.builder().id(7).item(item).booker(booker)
+                .start(LocalDateTime.now().minusDays(2)).end(LocalDateTime.now().minusDays(1)).build();
+        Booking next = Booking.builder().id(8).item(item).booker(booker)
+                .start(LocalDateTime.now().plusDays(1)).end(LocalDateTime.now().plusDays(2)).build();
+        ItemSummary summary = ItemSummary.builder().itemId(41).commentCount(3).build();
+
+        when(summaryRepository.findAllById(List.of(41))).thenReturn(List.of(summary));
+        when(bookingRepository.findPreviousAndNextBookingsOfItems(eq(List.of(41)), any(LocalDateTime.class)))
+                .thenReturn(List.of(last, next));
+        summaryUpdater.bookingsApproved(List.of(41));
+
+        assertTrue(summary.isBookingsLoaded());
+        assertEquals(7, summary.getLastBookingId());
+        assertEquals(2, summary.getLastBookerId());
+        assertEquals(last.getStart(), summary.getLastStart());
+        assertEquals(8, summary.getNextBookingId());
+        assertEquals(next.getStart(), summary.getNextStart());
+        assertEquals(3, summary.getCommentCount());
+        assertFalse(summary.isStale(LocalDateTime.now()));
+        assertTrue(summary.isStale(next.getStart()));
+    }
+
+    @Test
+    void bookingsApproved_previousBookingsCleared_whenNoBookingsFound() {
+        ItemSummary summary = ItemSummary.builder().itemId(41).lastBookingId(7).lastBookerId(2)
+                .lastStart(LocalDateTime.now().minusDays(2)).build();
+
+        when(summaryRepository.findAllById(List.of(41))).thenReturn(List.of(summary));
+        when(bookingRepository.findPreviousAndNextBookingsOfItems(eq(List.of(41)), any(LocalDateTime.class)))
+                .thenReturn(Collections.emptyList());
+        summaryUpdater.bookingsApproved(List.of(41));
+
+        assertTrue(summary.isBookingsLoaded());
+        assertNull(summary.getLastBookingId());
+        assertNull(summary.getNextBookingId());
+    }
+
+    @Test
+    void bookingsApproved_nothingLoaded_whenItemHasNoSummary() {
+        when(summaryRepository.findAllById(List.of(41))).thenReturn(Collections.emptyList());
+        summaryUpdater.bookingsApproved(List.of(41));
+
+        verify(bookingRepository, never()).findPreviousAndNextBookingsOfItems(any(), any());
+    }
+
+    @Test
+    void bookingsRecomputed_storedOnlyOverLoadedVersion() {
+        User owner = User.builder().id(1).name("jo").email("j@i.jo").build();
+        User booker = User.builder().id(2).name("leo").email("l@e.o").build();
+        Item item = Item.builder().id(41).name("dollar").description("one dollar").owner(owner).available(true).build();
+        Booking last = Booking.builder().id(7).item(item).booker(booker)
+                .start(LocalDateTime.now().minusHours(1)).end(LocalDateTime.now().plusDays(1)).build();
+        ItemSummary stale = ItemSummary.builder().itemId(41).nextBookingId(7).nextBookerId(2)
+                .nextStart(last.getStart()).bookingsLoaded(true).version(5).build();
+
+        summaryUpdater.bookingsRecomputed(stale, List.of(last), LocalDateTime.now());
+
+        verify(summaryRepository).storeBookingsOfVersion(41, 5, 7, 2, last.getStart(), null, null, null);
+    }
+}
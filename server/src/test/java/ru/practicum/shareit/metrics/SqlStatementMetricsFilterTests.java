@@ -0,0 +1,43 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SqlStatementMetricsFilterTests {
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatementMetricsFilter filter = new SqlStatementMetricsFilter(counter, meterRegistry);
+
+    @Test
+    void doFilter_recordsStatementsOfRequest_taggedByUriPattern() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/7");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            counter.inspect("select * from items where id = ?");
+            counter.inspect("select * from comments where item_id = ?");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/items/{id}");
+        });
+
+        DistributionSummary summary = meterRegistry.find("shareit.sql.statements")
+                .tags("method", "GET", "uri", "/items/{id}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2, summary.totalAmount());
+    }
+
+    @Test
+    void inspect_notCounted_outsideOfRequest() {
+        counter.inspect("select * from users");
+        counter.start();
+        counter.inspect("select * from items");
+
+        assertEquals(1, counter.stop());
+        assertEquals(0, counter.stop());
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.Paginator;
 import ru.practicum.shareit.exceptions.ItemRequestNotFoundException;
 import ru.practicum.shareit.exceptions.UserNotFoundException;
+import ru.practicum.shareit.item.dto.ItemDTO;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.request.RequestMapper;
@@ -27,6 +28,7 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -53,7 +55,7 @@ public class ItemRequestsServiceTests {
         User user = User.builder().id(userID).name("Jo").email("j@i.jo").build();
         IncomeItemRequestDTO incomeDTO = IncomeItemRequestDTO.builder().description("I need dollar").build();
 
-        when(userRepository.existsById(userID)).thenReturn(false);
+        when(userRepository.findById(userID)).thenReturn(Optional.empty());
         UserNotFoundException exception = assertThrows(UserNotFoundException.class,
                 () -> service.addRequest(userID, incomeDTO));
 
@@ -67,7 +69,6 @@ public class ItemRequestsServiceTests {
         User user = User.builder().id(userID).name("Jo").email("j@i.jo").build();
         IncomeItemRequestDTO incomeDTO = IncomeItemRequestDTO.builder().description("I need dollar").build();
 
-        when(userRepository.existsById(userID)).thenReturn(true);
         when(userRepository.findById(userID)).thenReturn(Optional.of(user));
 
         OutcomeItemRequestDTO outcomeDTO = service.addRequest(userID, incomeDTO);
@@ -96,7 +97,7 @@ public class ItemRequestsServiceTests {
 
         when(userRepository.existsById(userID)).thenReturn(true);
         when(requestRepository.findAllByUserID(userID)).thenReturn(requests);
-        when(itemRepository.findAllByRequestID(requests.get(0).getId())).thenReturn(Collections.emptyList());
+        when(itemRepository.findAllByRequestIDs(List.of(requests.get(0).getId()))).thenReturn(Collections.emptyList());
         List<OutcomeItemRequestWithItemsDTO> dtos = service.getRequestsOfUserByID(userID);
 
         verify(requestRepository, atMostOnce()).findAllByUserID(userID);
@@ -118,8 +119,9 @@ public class ItemRequestsServiceTests {
         );
 
         when(userRepository.existsById(userID)).thenReturn(true);
+        items.get(0).setRequest(requests.get(0));
         when(requestRepository.findAllByUserID(userID)).thenReturn(requests);
-        when(itemRepository.findAllByRequestID(requests.get(0).getId())).thenReturn(items);
+        when(itemRepository.findAllByRequestIDs(List.of(requests.get(0).getId()))).thenReturn(items);
         List<OutcomeItemRequestWithItemsDTO> dtos = service.getRequestsOfUserByID(userID);
 
         verify(requestRepository, atMostOnce()).findAllByUserID(userID);
@@ -130,6 +132,35 @@ public class ItemRequestsServiceTests {
         assertTrue(LocalDateTime.now().isAfter(dtos.get(0).getCreated()));
     }
 
+    @Test
+    void getRequestsOfUserByID_itemsGroupedByRequest() {
+        int userID = 1;
+        User user = User.builder().id(userID).name("Jo").email("j@i.jo").build();
+        List<ItemRequest> requests = List.of(
+                ItemRequest.builder().id(9).requestor(user).description("I need dollar").created(LocalDateTime.now()).build(),
+                ItemRequest.builder().id(4).requestor(user).description("I need euro").created(LocalDateTime.now()).build(),
+                ItemRequest.builder().id(6).requestor(user).description("I need yen").created(LocalDateTime.now()).build()
+        );
+        List<Item> items = List.of(
+                Item.builder().id(1).owner(user).name("euro").description("one euro").available(true)
+                        .request(requests.get(1)).build(),
+                Item.builder().id(2).owner(user).name("dollar").description("one dollar").available(true)
+                        .request(requests.get(0)).build(),
+                Item.builder().id(3).owner(user).name("cent").description("one cent").available(true)
+                        .request(requests.get(1)).build()
+        );
+
+        when(userRepository.existsById(userID)).thenReturn(true);
+        when(requestRepository.findAllByUserID(userID)).thenReturn(requests);
+        when(itemRepository.findAllByRequestIDs(List.of(9, 4, 6))).thenReturn(items);
+        List<OutcomeItemRequestWithItemsDTO> dtos = service.getRequestsOfUserByID(userID);
+
+        assertEquals(3, dtos.size());
+        assertEquals(List.of("dollar"), dtos.get(0).getItems().stream().map(ItemDTO::getName).collect(Collectors.toList()));
+        assertEquals(List.of("euro", "cent"), dtos.get(1).getItems().stream().map(ItemDTO::getName).collect(Collectors.toList()));
+        assertTrue(dtos.get(2).getItems().isEmpty());
+    }
+
     @Test
     void getRequestByID_exception_whenIncorrectUserID() {
         int userID = 25;
@@ -149,11 +180,10 @@ public class ItemRequestsServiceTests {
         int requestID = 54;
 
         when(userRepository.existsById(userID)).thenReturn(true);
-        when(requestRepository.existsById(requestID)).thenReturn(false);
+        when(requestRepository.findById(requestID)).thenReturn(Optional.empty());
         ItemRequestNotFoundException exception = assertThrows(ItemRequestNotFoundException.class,
                 () -> service.getRequestByID(userID, requestID));
 
-        verify(requestRepository, never()).findById(requestID);
         assertEquals("Item request with ID 54 not presented", exception.getMessage());
     }
 
@@ -170,7 +200,6 @@ public class ItemRequestsServiceTests {
                 .build();
 
         when(userRepository.existsById(userID)).thenReturn(true);
-        when(requestRepository.existsById(requestID)).thenReturn(true);
         when(requestRepository.findById(requestID)).thenReturn(Optional.of(request));
         when(itemRepository.findAllByRequestID(request.getId())).thenReturn(Collections.emptyList());
         OutcomeItemRequestWithItemsDTO dto = service.getRequestByID(userID, requestID);
@@ -197,7 +226,6 @@ public class ItemRequestsServiceTests {
         );
 
         when(userRepository.existsById(userID)).thenReturn(true);
-        when(requestRepository.existsById(requestID)).thenReturn(true);
         when(requestRepository.findById(requestID)).thenReturn(Optional.of(request));
         when(itemRepository.findAllByRequestID(request.getId())).thenReturn(items);
         OutcomeItemRequestWithItemsDTO dto = service.getRequestByID(userID, requestID);
@@ -257,7 +285,7 @@ public class ItemRequestsServiceTests {
 
         when(userRepository.existsById(userID)).thenReturn(true);
         when(requestRepository.findAllFromAnotherUsers(userID, pageable)).thenReturn(requests);
-        when(itemRepository.findAllByRequestID(requests.get(0).getId())).thenReturn(Collections.emptyList());
+        when(itemRepository.findAllByRequestIDs(List.of(requests.get(0).getId()))).thenReturn(Collections.emptyList());
         List<OutcomeItemRequestWithItemsDTO> dtos = service.getPageOfOtherUsersRequests(userID, from, size);
 
         verify(requestRepository, atMostOnce()).findAllFromAnotherUsers(requestID, pageable);
@@ -286,8 +314,9 @@ public class ItemRequestsServiceTests {
         );
 
         when(userRepository.existsById(userID)).thenReturn(true);
+        items.get(0).setRequest(requests.get(0));
         when(requestRepository.findAllFromAnotherUsers(userID, pageable)).thenReturn(requests);
-        when(itemRepository.findAllByRequestID(requests.get(0).getId())).thenReturn(items);
+        when(itemRepository.findAllByRequestIDs(List.of(requests.get(0).getId()))).thenReturn(items);
         List<OutcomeItemRequestWithItemsDTO> dtos = service.getPageOfOtherUsersRequests(userID, from, size);
 
         verify(requestRepository, atMostOnce()).findAllFromAnotherUsers(requestID, pageable);
@@ -5,14 +5,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.service.ItemBookingIndex;
 import ru.practicum.shareit.exceptions.EmailAlreadyExistException;
 import ru.practicum.shareit.exceptions.UserNotFoundException;
+import ru.practicum.shareit.item.service.ItemSearchIndex;
+import ru.practicum.shareit.item.service.ItemSummaryUpdater;
 import ru.practicum.shareit.user.UserMapper;
 import ru.practicum.shareit.user.dto.UserDTO;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 import ru.practicum.shareit.user.service.UserServiceImpl;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -31,6 +35,14 @@ import static org.mockito.Mockito.when;
 public class UserServiceTests {
     @Mock
     private UserRepository repository;
+    @Mock
+    private ItemSearchIndex searchIndex;
+    @Mock
+    private ItemBookingIndex bookingIndex;
+    @Mock
+    private ItemSummaryUpdater summaryUpdater;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
     @InjectMocks
     private UserServiceImpl service;
 
@@ -77,7 +89,7 @@ public class UserServiceTests {
     void patchUser_exception_whenUserNotPresent() {
         UserDTO dtoForSave = UserDTO.builder().id(5).name("exam").email("exa@m.ru").build();
 
-        when(repository.existsById(dtoForSave.getId())).thenReturn(false);
+        when(repository.findById(dtoForSave.getId())).thenReturn(Optional.empty());
 
         verify(repository, never()).save(UserMapper.userDtoToUser(dtoForSave));
         UserNotFoundException exception = assertThrows(UserNotFoundException.class,
@@ -92,7 +104,6 @@ public class UserServiceTests {
         userWithSameMail.add(User.builder().id(7).name("ram").email("exa@m.ru").build());
         User old = User.builder().id(5).name("pipo").name("pi@po.po").build();
 
-        when(repository.existsById(dtoForSave.getId())).thenReturn(true);
         doReturn(Optional.of(old)).when(repository).findById(dtoForSave.getId());
         doReturn(userWithSameMail).when(repository).findByEmailIgnoreCase(dtoForSave.getEmail());
 
@@ -108,12 +119,11 @@ public class UserServiceTests {
         User user = User.builder().id(6).name("exam").email("exa@m.ru").build();
         User patchedUser = User.builder().id(6).name("patch").email("exa@m.ru").build();
 
-        when(repository.existsById(dtoForPatch.getId())).thenReturn(true);
         doReturn(Optional.of(user)).when(repository).findById(dtoForPatch.getId());
         doReturn(patchedUser).when(repository).save(any());
 
         UserDTO dto = service.patchUser(dtoForPatch);
-        verify(repository, atMostOnce()).existsById(dtoForPatch.getId());
+        verify(repository, atMostOnce()).findById(dtoForPatch.getId());
         verify(repository, atMostOnce()).save(user);
         assertEquals(6, dto.getId());
         assertEquals("patch", dto.getName());
@@ -126,12 +136,11 @@ public class UserServiceTests {
         User user = User.builder().id(3).name("exam").email("exa@m.ru").build();
         User patchedUser = User.builder().id(3).name("exam").email("patch@ap.com").build();
 
-        when(repository.existsById(dtoForPatch.getId())).thenReturn(true);
         doReturn(Optional.of(user)).when(repository).findById(dtoForPatch.getId());
         doReturn(patchedUser).when(repository).save(any());
 
         UserDTO dto = service.patchUser(dtoForPatch);
-        verify(repository, atMostOnce()).existsById(dtoForPatch.getId());
+        verify(repository, atMostOnce()).findById(dtoForPatch.getId());
         verify(repository, atMostOnce()).save(user);
         assertEquals(3, dto.getId());
         assertEquals("exam", dto.getName());
@@ -146,18 +155,18 @@ public class UserServiceTests {
     @Test
     void deleteUser_exception_whenUserNotPresent() {
         int id = 10;
-        when(repository.existsById(id)).thenReturn(false);
+        when(repository.findById(id)).thenReturn(Optional.empty());
 
         UserNotFoundException exception = assertThrows(UserNotFoundException.class,
                 () -> service.deleteUser(id));
-        verify(repository, never()).deleteById(id);
+        verify(repository, never()).delete(any());
         assertEquals("User with ID 10 not present", exception.getMessage());
     }
 
     @Test
     void deleteUser_correctDeletion() {
         int id = 10;
-        verify(repository, atMostOnce()).deleteById(id);
+        verify(repository, atMostOnce()).delete(any());
     }
 
     @Test